@@ -0,0 +1,104 @@
+package lib280.list;
+
+/**
+ * Equality scans over one contiguous run of a primitive array, used by the
+ * searches of IntArrayedList280, LongArrayedList280 and DoubleArrayedList280.
+ *
+ * When the jdk.incubator.vector module is in the boot layer (the JVM was started
+ * with --add-modules jdk.incubator.vector), the scans are done by VectorScan280
+ * several lanes at a time.  Otherwise the plain loops below are used, and
+ * VectorScan280 is never loaded.
+ *
+ * The lists store their elements from the top of a run downward, so the first
+ * element of a run in list order is the one in its highest slot.
+ */
+final class ArrayScan280 {
+
+	/**
+	 * Whether the Vector API is available to this JVM.
+	 */
+	static final boolean VECTOR = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+	private ArrayScan280() {
+	}
+
+	/**
+	 * Find the highest slot in [lo, hi) holding y.
+	 * @return the slot, or -1 if no slot in the run holds y.
+	 */
+	static int lastIndexOf(int[] a, int lo, int hi, int y) {
+		if( VECTOR ) return VectorScan280.lastIndexOf(a, lo, hi, y);
+		for(int s = hi - 1; s >= lo; s--)
+			if( a[s] == y ) return s;
+		return -1;
+	}
+
+	/**
+	 * Count the slots in [lo, hi) holding y.
+	 */
+	static int count(int[] a, int lo, int hi, int y) {
+		if( VECTOR ) return VectorScan280.count(a, lo, hi, y);
+		int c = 0;
+		for(int s = lo; s < hi; s++)
+			c += a[s] == y ? 1 : 0;
+		return c;
+	}
+
+	/**
+	 * Find the highest slot in [lo, hi) holding y.
+	 * @return the slot, or -1 if no slot in the run holds y.
+	 */
+	static int lastIndexOf(long[] a, int lo, int hi, long y) {
+		if( VECTOR ) return VectorScan280.lastIndexOf(a, lo, hi, y);
+		for(int s = hi - 1; s >= lo; s--)
+			if( a[s] == y ) return s;
+		return -1;
+	}
+
+	/**
+	 * Count the slots in [lo, hi) holding y.
+	 */
+	static int count(long[] a, int lo, int hi, long y) {
+		if( VECTOR ) return VectorScan280.count(a, lo, hi, y);
+		int c = 0;
+		for(int s = lo; s < hi; s++)
+			c += a[s] == y ? 1 : 0;
+		return c;
+	}
+
+	/**
+	 * Find the highest slot in [lo, hi) holding a value equal to y by
+	 * Double.compare(), so NaN matches NaN and 0.0 does not match -0.0.
+	 * @return the slot, or -1 if no slot in the run holds y.
+	 */
+	static int lastIndexOf(double[] a, int lo, int hi, double y) {
+		if( y != y ) {
+			for(int s = hi - 1; s >= lo; s--)
+				if( a[s] != a[s] ) return s;
+			return -1;
+		}
+		// For a y that is not NaN, Double.compare() equality is equality of the raw bits.
+		long bits = Double.doubleToRawLongBits(y);
+		if( VECTOR ) return VectorScan280.lastIndexOf(a, lo, hi, bits);
+		for(int s = hi - 1; s >= lo; s--)
+			if( Double.doubleToRawLongBits(a[s]) == bits ) return s;
+		return -1;
+	}
+
+	/**
+	 * Count the slots in [lo, hi) holding a value equal to y by Double.compare().
+	 */
+	static int count(double[] a, int lo, int hi, double y) {
+		int c = 0;
+		if( y != y ) {
+			for(int s = lo; s < hi; s++)
+				c += a[s] != a[s] ? 1 : 0;
+			return c;
+		}
+		long bits = Double.doubleToRawLongBits(y);
+		if( VECTOR ) return VectorScan280.count(a, lo, hi, bits);
+		for(int s = lo; s < hi; s++)
+			c += Double.doubleToRawLongBits(a[s]) == bits ? 1 : 0;
+		return c;
+	}
+}
@@ -6,6 +6,15 @@
 
 package lib280.list;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import lib280.base.CursorPosition280;
 import lib280.exception.*;
 
@@ -51,6 +60,54 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	 */
 	protected boolean continueSearch;
 	
+	/**
+	 * Does the list grow instead of becoming full?
+	 */
+	protected boolean growable;
+	
+	/**
+	 * Does a growable list give memory back when it becomes sparse?
+	 */
+	protected boolean shrinkable;
+	
+	/**
+	 * Capacity the list was created with.  A growable list never shrinks below this.
+	 */
+	protected int minCapacity;
+	
+	/**
+	 * Hash index from items to the slots that hold them, or null if the list is not indexed.
+	 */
+	protected ArrayedListIndex280<I> index;
+	
+	/**
+	 * Does insertLast() on a full list overwrite the first element instead of failing?
+	 */
+	protected boolean overwriting;
+	
+	/**
+	 * Number of elements overwritten by insertLast() since the list was created.
+	 */
+	protected long dropped;
+	
+	/**
+	 * Number of lists sharing listElements after clone(), or null if this list 
+	 * is the only one using it.
+	 */
+	protected AtomicInteger sharers;
+	
+	/**
+	 * Sequence number of the first element.  An element keeps its sequence number
+	 * (firstSeq + its index) while elements are inserted and deleted at the ends.
+	 */
+	protected long firstSeq;
+	
+	/**
+	 * Changes whenever elements move to new indices other than by insertion or 
+	 * deletion at an end, making saved positions unusable.
+	 */
+	protected long layoutVersion;
+	
 
 	private int mod( int a, int b ) {
 		return ((a % b) + b) % b;
@@ -60,27 +117,215 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	 * Create a new, empty list.
 	 * @param capacity The maximum number of elements in the list.
 	 */
-	@SuppressWarnings("unchecked")
 	public ArrayedList280(int capacity) {
+		this(capacity, false);
+	}
+	
+	/**
+	 * Create a new, empty list.
+	 * @param capacity The initial number of elements the list can hold.
+	 * @param growable If true, the capacity doubles whenever an insertion is made 
+	 *                 into a full list, and the list is never full.
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayedList280(int capacity, boolean growable) {
 		this.head = 0;
 		this.tail = 0;
 		this.capacity = capacity;
-		this.position = 0;
+		this.minCapacity = capacity;
+		this.growable = growable;
+		this.position = ArrayedListIterator280.beforePos;
 		this.listElements = (I[]) new Object[capacity];
 	}
 	
+	/**
+	 * Is the list growable?
+	 * @return true if the list grows on demand, false if it has a fixed capacity.
+	 */
+	public boolean isGrowable() {
+		return this.growable;
+	}
+	
+	/**
+	 * Set whether a growable list halves its capacity when it becomes a quarter full.
+	 * The capacity never drops below the capacity the list was created with.
+	 * @param shrinkable true to enable shrinking, false to disable it.
+	 * @precond isGrowable()
+	 * @throws InvalidState280Exception if the list is not growable.
+	 */
+	public void setShrinkable(boolean shrinkable) throws InvalidState280Exception {
+		if( !this.growable ) throw new InvalidState280Exception("Only a growable list can shrink.");
+		this.shrinkable = shrinkable;
+	}
+	
+	/**
+	 * Does insertLast() on a full list overwrite the oldest element?
+	 * @return true if the list is in overwrite mode.
+	 */
+	public boolean isOverwriting() {
+		return this.overwriting;
+	}
+	
+	/**
+	 * Set whether insertLast() on a full list deletes the first element to make room,
+	 * instead of throwing ContainerFull280Exception.  This keeps the most recent
+	 * capacity() elements in a fixed amount of memory.
+	 * @param overwriting true to enable overwrite mode, false to disable it.
+	 * @precond !isGrowable()
+	 * @throws InvalidState280Exception if the list is growable, since it is never full.
+	 */
+	public void setOverwriting(boolean overwriting) throws InvalidState280Exception {
+		if( this.growable ) throw new InvalidState280Exception("A growable list is never full, so it cannot overwrite.");
+		this.overwriting = overwriting;
+	}
+	
+	/**
+	 * Number of elements that insertLast() has overwritten in overwrite mode.
+	 */
+	public long droppedCount() {
+		return this.dropped;
+	}
+	
+	/**
+	 * Is the list indexed?
+	 * @return true if has(), obtain(), delete() and new searches use the hash index.
+	 */
+	public boolean isIndexed() {
+		return this.index != null;
+	}
+	
+	/**
+	 * Turn the hash index on or off.  While the index is on, has(), obtain(), delete()
+	 * and any search() that does not resume a previous search take expected O(1) time
+	 * to find an item, and every insertion and deletion also updates the index.
+	 * Building the index takes O(n) time.
+	 * The index matches items by equals() and hashCode(), so it must only be used
+	 * when those agree with membershipEquals().
+	 * @param indexed true to build and maintain the index, false to discard it.
+	 */
+	public void setIndexed(boolean indexed) {
+		if( !indexed ) this.index = null;
+		else if( this.index == null ) {
+			this.index = new ArrayedListIndex280<I>();
+			this.rebuildIndex();
+		}
+	}
+	
+	/**
+	 * Rebuild the hash index from the contents of the list.
+	 */
+	protected void rebuildIndex() {
+		this.index.clear();
+		for(int i = 0, slot = this.tail; i < this.numEl; i++, slot = this.mod(slot + 1, this.capacity))
+			this.index.add(this.listElements[slot], slot);
+	}
+	
+	/**
+	 * Find the slot of the first occurrence of x using the hash index.
+	 * @return the slot of the first occurrence of x, or -1 if x is not in the list.
+	 */
+	protected int indexedSlotOf(I x) {
+		int[] slots = this.index.slotsOf(x);
+		if( slots == null ) return -1;
+		
+		// The first occurrence is the one closest to head.
+		int best = slots[1];
+		for(int i = 2; i <= slots[0]; i++)
+			if( this.mod(this.head - 1 - slots[i], this.capacity) < this.mod(this.head - 1 - best, this.capacity) )
+				best = slots[i];
+		return best;
+	}
+	
+	/**
+	 * Make sure the list can hold at least n elements without growing.
+	 * @param n Number of elements the list must be able to hold.
+	 * @precond isGrowable() or n <= capacity()
+	 * @throws ContainerFull280Exception if the list is not growable and n exceeds its capacity.
+	 */
+	public void ensureCapacity(int n) throws ContainerFull280Exception {
+		if( n <= this.capacity ) return;
+		if( !this.growable ) throw new ContainerFull280Exception("List cannot hold " + n + " elements.");
+		
+		// Doubling keeps a sequence of insertions amortized O(1) each.
+		int newCapacity = Math.max(this.capacity * 2, 1);
+		while( newCapacity < n ) {
+			newCapacity = newCapacity * 2;
+			if( newCapacity < 0 ) { newCapacity = Integer.MAX_VALUE - 8; break; }
+		}
+		this.resize(newCapacity);
+	}
+	
+	/**
+	 * Halve the capacity of a shrinkable list that has become a quarter full.
+	 */
+	protected void shrinkIfSparse() {
+		if( this.shrinkable && this.numEl <= this.capacity / 4 && this.capacity / 2 >= this.minCapacity )
+			this.resize(this.capacity / 2);
+	}
+	
+	/**
+	 * Move the elements into a new array of size newCapacity.  The circular layout is
+	 * unwrapped so that the last element lands at index 0 and the first element at
+	 * index count()-1.  This takes at most two array copies.  The cursor stays on the 
+	 * same element.  Iterators created before the resize keep iterating over the old 
+	 * array, which is no longer modified by the list.
+	 * @param newCapacity Size of the new array.
+	 * @precond newCapacity >= count()
+	 */
+	@SuppressWarnings("unchecked")
+	protected void resize(int newCapacity) {
+		I[] newElements = (I[]) new Object[newCapacity];
+		if( this.numEl > 0 ) {
+			if( this.tail < this.head )
+				System.arraycopy(this.listElements, this.tail, newElements, 0, this.numEl);
+			else {
+				// The elements wrap around the end of the array.
+				int firstPart = this.capacity - this.tail;
+				System.arraycopy(this.listElements, this.tail, newElements, 0, firstPart);
+				System.arraycopy(this.listElements, 0, newElements, firstPart, this.head);
+			}
+		}
+		
+		// Keep the cursor on the same element.
+		if( this.position >= 0 && this.numEl > 0 ) {
+			int index = this.mod(this.head - 1 - this.position, this.capacity);
+			if( index < this.numEl ) this.position = this.numEl - 1 - index;
+			else this.position = ArrayedListIterator280.afterPos;
+		}
+		
+		// The new array is this list's own; a shared index must not be rebuilt in place.
+		if( this.sharers != null ) {
+			this.sharers.decrementAndGet();
+			this.sharers = null;
+			if( this.index != null ) this.index = new ArrayedListIndex280<I>();
+		}
+		
+		this.listElements = newElements;
+		this.capacity = newCapacity;
+		this.tail = 0;
+		this.head = this.numEl % newCapacity;
+		if( this.index != null ) this.rebuildIndex();
+	}
+	
 	@Override
 	public void deleteFirst() throws ContainerEmpty280Exception {
 		if(isEmpty()) throw new ContainerEmpty280Exception();
+		this.unshare();
 		
-		// If the cursor is on the first item, we have to move it.
-		if( this.position == this.head )
-			this.position = this.mod(this.head - 1, this.capacity);
+		int first = this.mod(this.head - 1, this.capacity);
 		
-		this.head = this.mod(this.head - 1, this.capacity);
+		// If the cursor is on the first item, move it to the second.
+		if( this.position == first )
+			this.position = this.mod(first - 1, this.capacity);
+		
+		if( this.index != null ) this.index.remove(this.listElements[first], first);
+		this.listElements[first] = null;
+		this.head = first;
 		this.numEl--;
+		this.firstSeq++;
 		
 		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
 	}
 
 
@@ -88,15 +333,111 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	@Override
 	public void deleteLast() throws ContainerEmpty280Exception {
 		if(isEmpty()) throw new ContainerEmpty280Exception();
+		this.unshare();
 		
 		// If the cursor is on the last item, we have to move it.
 		if( this.position == this.tail )
 			this.position = this.mod(this.tail + 1,  this.capacity);
 		
+		if( this.index != null ) this.index.remove(this.listElements[this.tail], this.tail);
+		this.listElements[this.tail] = null;
 		this.tail = this.mod(this.tail + 1,  this.capacity);
 		this.numEl--;
 		
 		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+
+
+
+	/**
+	 * Delete the first n items by moving head past them.
+	 * A cursor on a deleted item moves to the new first item.
+	 * @param n Number of items to delete.
+	 * @throws InvalidArgument280Exception if n is negative.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		this.trimFirst(n);
+	}
+
+
+
+	/**
+	 * Delete the last n items by moving tail past them.
+	 * A cursor on a deleted item moves to the new last item.
+	 * @param n Number of items to delete.
+	 * @throws InvalidArgument280Exception if n is negative.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		this.trimLast(n);
+	}
+
+
+
+	/**
+	 * Delete the items with indices from to to-1.  The items on whichever side of
+	 * the range is shorter are shifted across the gap.  A cursor on a deleted item
+	 * moves to the item after the range, or to after() if there is none.
+	 * @param from Index of the first item to delete.
+	 * @param to One past the index of the last item to delete.
+	 * @throws InvalidArgument280Exception unless 0 <= from <= to <= count().
+	 * @timing O(k + min(from, n-to)) to delete k items.
+	 */
+	public void deleteRange(int from, int to) throws InvalidArgument280Exception {
+		if( from < 0 || to > this.numEl || from > to )
+			throw new InvalidArgument280Exception("Cannot delete the range " + from + " to " + to + " from a list of " + this.numEl + ".");
+		if( from == 0 ) {
+			this.trimFirst(to);
+			return;
+		}
+		if( to == this.numEl ) {
+			boolean cursorInside = this.itemExists() && this.mod(this.head - 1 - this.position, this.capacity) >= from;
+			this.trimLast(to - from);
+			if( cursorInside && this.numEl > 0 ) this.position = ArrayedListIterator280.afterPos;
+			return;
+		}
+		if( from == to ) return;
+		this.unshare();
+		this.layoutVersion++;
+		
+		int k = to - from;
+		int cursor = this.itemExists() ? this.mod(this.head - 1 - this.position, this.capacity) : -1;
+		if( cursor >= to ) cursor -= k;
+		else if( cursor >= from ) cursor = from;
+		
+		// The deleted slots are overwritten by the shift below.
+		if( this.index != null )
+			for(int i = from, slot = this.mod(this.head - 1 - from, this.capacity); i < to; i++, slot = slot == 0 ? this.capacity - 1 : slot - 1)
+				this.index.remove(this.listElements[slot], slot);
+		
+		if( from < this.numEl - to ) {
+			// Fewer items before the range: move them k slots toward tail.
+			this.shiftSlots(this.mod(this.head - from, this.capacity), from, -k);
+			for(int i = 0, slot = this.mod(this.head - k, this.capacity); i < k; i++, slot = (slot + 1) % this.capacity)
+				this.listElements[slot] = null;
+			this.head = this.mod(this.head - k, this.capacity);
+		}
+		else {
+			// Fewer items after the range: move them k slots toward head.
+			this.shiftSlots(this.tail, this.numEl - to, k);
+			for(int i = 0, slot = this.tail; i < k; i++, slot = (slot + 1) % this.capacity)
+				this.listElements[slot] = null;
+			this.tail = this.mod(this.tail + k, this.capacity);
+		}
+		this.numEl -= k;
+		
+		if( cursor >= 0 ) this.position = this.mod(this.head - 1 - cursor, this.capacity);
+		this.shrinkIfSparse();
 	}
 
 
@@ -113,21 +454,32 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	@Override
 	public void insertFirst(I x) throws ContainerFull280Exception {
 		if(this.isFull()) throw new ContainerFull280Exception();
+		if(this.numEl == this.capacity) this.ensureCapacity(this.numEl + 1);
+		this.unshare();
 		
 		this.listElements[this.head] = x;
+		if( this.index != null ) this.index.add(x, this.head);
 		this.head = this.mod( this.head + 1, this.capacity);
 		this.numEl++;
+		this.firstSeq--;
 	}
 
 	
 
 	@Override
 	public void insertLast(I x) throws ContainerFull280Exception {
+		if( this.overwriting && this.numEl == this.capacity && this.numEl > 0 ) {
+			this.deleteFirst();
+			this.dropped++;
+		}
 		if(this.isFull()) throw new ContainerFull280Exception();
+		if(this.numEl == this.capacity) this.ensureCapacity(this.numEl + 1);
+		this.unshare();
 		
 		this.tail = this.mod(this.tail - 1, this.capacity);
 		
 		this.listElements[this.tail] = x;
+		if( this.index != null ) this.index.add(x, this.tail);
 		this.numEl++;
 	}
 
@@ -158,11 +510,37 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 
 
+	/**
+	 * A copy of this list that shares its array until either list is changed.  
+	 * The first change to either one copies the array (and the hash index, if any) 
+	 * for that list, so cloning is O(1) and the clone is a consistent snapshot 
+	 * that can be read while the original keeps changing.  The items themselves 
+	 * are not copied.
+	 */
 	@SuppressWarnings("unchecked")
 	@Override
 	public ArrayedList280<I> clone() throws CloneNotSupportedException {
+		if( this.sharers == null ) this.sharers = new AtomicInteger(1);
+		this.sharers.incrementAndGet();
 		return (ArrayedList280<I>) super.clone();
 	}
+	
+	/**
+	 * Give this list its own copy of the array and index if it shares them with
+	 * a clone.  Every method that writes to listElements or the index calls this 
+	 * first.  The last list holding a shared array takes it over without copying.
+	 */
+	protected void unshare() {
+		if( this.sharers == null ) return;
+		if( this.sharers.decrementAndGet() > 0 ) {
+			this.listElements = this.listElements.clone();
+			if( this.index != null ) {
+				this.index = new ArrayedListIndex280<I>();
+				this.rebuildIndex();
+			}
+		}
+		this.sharers = null;
+	}
 
 
 
@@ -213,20 +591,54 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 
 	@Override
+	/**
+	 * The position of the cursor.  It records the sequence number of the current 
+	 * element, so goPosition() can return to that element in O(1) after any number
+	 * of insertions and deletions at either end of the list, as long as the element
+	 * itself is still in the list.
+	 */
 	public CursorPosition280 currentPosition() {
 		ArrayedListIterator280<I> iter = new ArrayedListIterator280<I>(this.listElements, this.head, this.tail, this.numEl);
-		iter.setPosition(this.position);
+		iter.position = this.position;
+		iter.owner = this;
+		iter.version = this.layoutVersion;
+		if( this.itemExists() ) {
+			iter.seq = this.firstSeq + this.mod(this.head - 1 - this.position, this.capacity);
+			iter.savedItem = this.listElements[this.position];
+		}
 		return iter;
 	}
 
 
 
+	/**
+	 * Move the cursor to a position saved by currentPosition().
+	 * @throws IllegalArgumentException if c is not a position in this list, or its 
+	 *         element has been deleted, or elements have since been deleted or 
+	 *         reordered in the middle of the list.
+	 */
 	@SuppressWarnings("unchecked")
 	@Override
 	public void goPosition(CursorPosition280 c) throws IllegalArgumentException {
 		if( !(c instanceof ArrayedListIterator280) ) 
 			throw new IllegalArgumentException("Arguement is not an ArrayedListIterator280.");
 		ArrayedListIterator280<I> iter = (ArrayedListIterator280<I>)c;
+		if( iter.owner == this ) {
+			if( !iter.itemExists() ) {
+				this.position = iter.position;
+				return;
+			}
+			// A sequence number freed by deleting at an end is reused by the next
+			// insertion there, so the element must be checked too.
+			long idx = iter.seq - this.firstSeq;
+			int slot = this.mod(this.head - 1 - (int) idx, this.capacity);
+			if( iter.version != this.layoutVersion || idx < 0 || idx >= this.numEl || this.listElements[slot] != iter.savedItem )
+				throw new IllegalArgumentException("The saved position is no longer in the list.");
+			this.position = slot;
+			return;
+		}
+		
+		// An iterator that is not a saved position must match the list exactly.
 		if( iter.capacity != this.capacity ||
 		    iter.head != this.head ||
 			iter.tail != this.tail )
@@ -237,46 +649,37 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 
 
+	/**
+	 * Delete the item found by search(x).  The cursor stays on the element it was
+	 * on, or moves to the next element if that element was deleted.  The cursor is
+	 * restored from its index, so only one search is needed.
+	 */
 	@Override
 	public void delete(I x) throws ItemNotFound280Exception, ContainerEmpty280Exception {
 		
 		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
 		
-		// save cursor state		
-		@SuppressWarnings("unchecked")
-		ArrayedListIterator280<I> savePos = (ArrayedListIterator280<I>) this.currentPosition();
-		
-		// If there was an item at the cursor, save it.
-		I saveItem;
-		if( savePos.itemExists() )
-			saveItem = savePos.item();
-		else 
-			saveItem = null;
+		// Save the cursor by index.
+		int savePosition = this.position;
+		int saveIndex = this.itemExists() ? this.mod(this.head - 1 - savePosition, this.capacity) : -1;
 		
 		// Search for the item to be deleted.
 		this.search(x);
-		if(!this.itemExists()) throw new ItemNotFound280Exception();
+		if( !this.itemExists() ) {
+			this.position = savePosition;
+			throw new ItemNotFound280Exception();
+		}
 		
-		// If we are deleting the item at the saved cursor position, don't bother restoring it,
-		// just leave it where it is.
-		if( this.position == savePos.position)
-			this.deleteItem();
-		else {
-			this.deleteItem();
-			// If there was previously an item at the cursor, find it again.
-			if( saveItem != null ) {
-				// Restore the cursor to the item at which it was previously.
-				boolean saveContinue = continueSearch;
-				this.restartSearches();
-				search(saveItem);
-				continueSearch = saveContinue;			}
-			else {
-				// If not, it must have been 'before' or 'after'.  Just restore
-				// it to that.
-				this.position = savePos.position;
-			}
-		}	
-	
+		// If we are deleting the item at the saved cursor position, the cursor moves 
+		// to the next item; otherwise it returns to its element, which moves down 
+		// one index if it came after the deleted one.
+		int found = this.mod(this.head - 1 - this.position, this.capacity);
+		this.deleteItem();
+		if( saveIndex < 0 ) this.position = savePosition;
+		else if( saveIndex != found ) {
+			if( saveIndex > found ) saveIndex--;
+			this.position = this.mod(this.head - 1 - saveIndex, this.capacity);
+		}
 	}
 
 
@@ -288,36 +691,52 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 
 
+	/**
+	 * Obtain the first item in the list that is equal to y.  The cursor is not used
+	 * or moved, so concurrent readers do not disturb each other.
+	 * @param y item to look for
+	 * @return the first item in the list that membershipEquals y.
+	 * @throws ItemNotFound280Exception if y is not in the list.
+	 */
 	@Override
 	public I obtain(I y) throws ItemNotFound280Exception {
-		// save cursor state
-		CursorPosition280 savePos = this.currentPosition();
-		
-		// Search for y
-		this.search(y);
-		if(!this.itemExists()) throw new ItemNotFound280Exception();
-		I result = this.item();
-		
-		// Restore cursor state
-		this.goPosition(savePos);
-		return result;
+		int slot = this.findSlot(y);
+		if( slot < 0 ) throw new ItemNotFound280Exception();
+		return this.listElements[slot];
 	}
 
 
 
+	/**
+	 * Determine whether y is in the list.  The cursor is not used or moved, 
+	 * and nothing is allocated.
+	 * @param y item to look for
+	 * @return true if some item in the list membershipEquals y.
+	 */
 	@Override
 	public boolean has(I y) {
-		// save cursor state
-		CursorPosition280 savePos = this.currentPosition();
-		
-		// Search for y
-		this.search(y);
-		boolean result = itemExists();
-		
-		// Restore cursor state
-		this.goPosition(savePos);
+		return this.findSlot(y) >= 0;
+	}
+	
+	
+	
+	/**
+	 * Find the slot of the first item that is equal to y by scanning the array 
+	 * from head toward tail, or by using the index if the list is indexed.
+	 * Unlike search(), this neither reads nor changes the cursor or continueSearch.
+	 * @param y item to look for
+	 * @return the index in listElements of the first occurrence of y, or -1 if y is not in the list.
+	 */
+	protected int findSlot(I y) {
+		if( this.index != null ) return this.indexedSlotOf(y);
 		
-		return result;
+		I[] elements = this.listElements;
+		int slot = this.head;
+		for(int i = 0; i < this.numEl; i++) {
+			slot = slot == 0 ? this.capacity - 1 : slot - 1;
+			if( this.membershipEquals(y, elements[slot]) ) return slot;
+		}
+		return -1;
 	}
 
 
@@ -332,16 +751,149 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 
 
+	/**
+	 * Delete the item at the cursor.  The elements on whichever side of the cursor 
+	 * is shorter are shifted one slot to close the gap, and the slot that is freed
+	 * is cleared.  The cursor moves to the next item, or to after() if the last 
+	 * item was deleted.
+	 * @timing O(min(k, n-k)) for the item at index k.
+	 */
 	@Override
 	public void deleteItem() throws NoCurrentItem280Exception {
 		if( !itemExists() )
 			throw new NoCurrentItem280Exception();
+		this.unshare();
+		
+		int p = this.position;
+		int k = this.mod(this.head - 1 - p, this.capacity);
+		if( this.index != null ) this.index.remove(listElements[p], p);
 		
-		for(int i = this.position; i != this.head; i = this.mod(i + 1, this.capacity) ) {
-			listElements[i] = listElements[this.mod(i+1, this.capacity)];
+		// Deleting the first element renumbers nothing; deleting the last changes nothing.
+		if( k == 0 ) this.firstSeq++;
+		else if( k < this.numEl - 1 ) this.layoutVersion++;
+		
+		if( k < this.numEl - 1 - k ) {
+			// Fewer items before the cursor: move them one slot toward tail.
+			this.shiftSlots(this.mod(p + 1, this.capacity), k, -1);
+			this.head = this.mod(this.head - 1, this.capacity);
+			this.listElements[this.head] = null;
+			
+			// The next item did not move.
+			this.position = this.mod(p - 1, this.capacity);
+		}
+		else {
+			// Fewer items after the cursor: move them one slot toward head.
+			this.shiftSlots(this.tail, this.numEl - 1 - k, 1);
+			this.listElements[this.tail] = null;
+			this.tail = this.mod(this.tail + 1, this.capacity);
+			
+			// The next item moved into the cursor's slot.
 		}
-		this.head = this.mod(this.head - 1, this.capacity);
-		this.numEl--;	
+		this.numEl--;
+		
+		if( k == this.numEl ) this.position = ArrayedListIterator280.afterPos;
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+	
+	
+	
+	/**
+	 * Move the len items in the slots starting at slot from (toward head) by delta 
+	 * slots, wrapping around the end of the array.  This takes at most three calls to 
+	 * System.arraycopy.  The hash index, if any, is updated; the vacated slots are not cleared.
+	 * @param from First slot to move.
+	 * @param len Number of slots to move.
+	 * @param delta Distance to move them, positive toward head or negative toward tail.
+	 * @precond len + |delta| <= capacity
+	 */
+	protected void shiftSlots(int from, int len, int delta) {
+		if( len == 0 ) return;
+		this.unshare();
+		int cap = this.capacity;
+		if( delta < 0 ) {
+			// Moving down: copy the lowest slots first so nothing is overwritten before it is read.
+			int src = from, dst = this.mod(from + delta, cap), remaining = len;
+			while( remaining > 0 ) {
+				int n = Math.min(remaining, Math.min(cap - src, cap - dst));
+				System.arraycopy(this.listElements, src, this.listElements, dst, n);
+				src = (src + n) % cap;
+				dst = (dst + n) % cap;
+				remaining -= n;
+			}
+		}
+		else {
+			// Moving up: copy the highest slots first.
+			int remaining = len;
+			while( remaining > 0 ) {
+				int lastSrc = (from + remaining - 1) % cap;
+				int lastDst = (lastSrc + delta) % cap;
+				int n = Math.min(remaining, Math.min(lastSrc + 1, lastDst + 1));
+				System.arraycopy(this.listElements, lastSrc - n + 1, this.listElements, lastDst - n + 1, n);
+				remaining -= n;
+			}
+		}
+		if( this.index != null ) {
+			for(int i = 0, slot = this.mod(from + delta, cap); i < len; i++, slot = (slot + 1) % cap)
+				this.index.move(this.listElements[slot], this.mod(slot - delta, cap), slot);
+		}
+	}
+	
+	
+	
+	/**
+	 * Delete every item for which filter returns true.  The filter is applied to
+	 * every item first, so if it throws an exception the list is left unchanged;
+	 * then a single pass packs the remaining items toward tail.  If the item at the
+	 * cursor is deleted, the cursor moves to the next remaining item, or to after()
+	 * if there is none.
+	 * @param filter Returns true for the items to be deleted.
+	 * @return The number of items deleted.
+	 * @timing O(n)
+	 */
+	public int removeIf(Predicate<? super I> filter) {
+		int cap = this.capacity;
+		
+		// Bit i is set if the i-th item from tail is to be deleted.
+		BitSet doomed = new BitSet();
+		for(int i = 0, r = this.tail; i < this.numEl; i++, r = (r + 1) % cap)
+			if( filter.test(this.listElements[r]) ) doomed.set(i);
+		if( doomed.isEmpty() ) return 0;
+		
+		this.unshare();
+		this.layoutVersion++;
+		int w = this.tail;
+		int newPosition = this.position;
+		int kept = 0;
+		
+		// Scanning from tail visits the items from last to first, so the last item kept
+		// before reaching the cursor is the one after it.
+		for(int i = 0, r = this.tail; i < this.numEl; i++, r = (r + 1) % cap) {
+			I item = this.listElements[r];
+			boolean remove = doomed.get(i);
+			if( r == this.position ) {
+				if( !remove ) newPosition = w;
+				else if( kept > 0 ) newPosition = this.mod(w - 1, cap);
+				else newPosition = ArrayedListIterator280.afterPos;
+			}
+			if( !remove ) {
+				this.listElements[w] = item;
+				w = (w + 1) % cap;
+				kept++;
+			}
+		}
+		
+		int removed = this.numEl - kept;
+		for(int i = 0, slot = w; i < removed; i++, slot = (slot + 1) % cap)
+			this.listElements[slot] = null;
+		
+		this.head = w;
+		this.numEl = kept;
+		this.position = newPosition;
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		if( this.index != null ) this.rebuildIndex();
+		if( this.numEl > 0 ) this.shrinkIfSparse();
+		return removed;
 	}
 
 
@@ -362,6 +914,12 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 	@Override
 	public void search(I x) {
+		if( !continueSearch && this.index != null ) {
+			int slot = this.indexedSlotOf(x);
+			this.position = slot < 0 ? ArrayedListIterator280.afterPos : slot;
+			return;
+		}
+		
 		if (!continueSearch)
 			goFirst();
 		else if (!after())
@@ -375,10 +933,14 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 	@Override
 	public void clear() {
+		this.unshare();
+		this.layoutVersion++;
+		Arrays.fill(this.listElements, null);
 		this.head = 0;
 		this.tail = 0;
 		this.numEl = 0;
 		this.position = ArrayedListIterator280.beforePos;
+		if( this.index != null ) this.index.clear();
 	}
 
 
@@ -392,7 +954,7 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 
 	@Override
 	public boolean isFull() {
-		return this.head == this.tail && this.numEl == this.capacity;
+		return !this.growable && this.head == this.tail && this.numEl == this.capacity;
 	}
 
 
@@ -406,7 +968,8 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	}
 	
 	/**
-	 * Obtain the maximum number of elements that can be in the list.
+	 * Obtain the maximum number of elements that can be in the list.  For a growable
+	 * list this is the number of elements it can hold before it next grows.
 	 * @return The capacity of the list.
 	 */
 	public int capacity() {
@@ -440,6 +1003,96 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 		return new ArrayedListIterator280<I>(this.listElements, this.head, this.tail, this.numEl);
 	}
 	
+	/**
+	 * An iterator over a copy of the last n elements of the list, or of the whole
+	 * list if it has fewer.  Later changes to the list do not affect it.
+	 * @param n Maximum number of elements in the snapshot.
+	 * @timing O(n)
+	 */
+	public ArrayedListIterator280<I> snapshot(int n) {
+		return new ArrayedListIterator280<I>(this, n);
+	}
+	
+	/**
+	 * A SIZED and SUBSIZED Spliterator over the elements of the list, in order.
+	 * The list must not be modified while it is in use.
+	 */
+	public Spliterator<I> spliterator() {
+		return new ArrayedListSpliterator280<I>(this, 0, this.numEl);
+	}
+	
+	/**
+	 * A sequential stream of the elements of the list, in order.
+	 * The list must not be modified while the stream is in use.
+	 */
+	public Stream<I> stream() {
+		return StreamSupport.stream(this.spliterator(), false);
+	}
+	
+	/**
+	 * A parallel stream of the elements of the list.  It is split by index range, 
+	 * so every part reads the array directly and knows its exact size.
+	 * The list must not be modified while the stream is in use.
+	 */
+	public Stream<I> parallelStream() {
+		return StreamSupport.stream(this.spliterator(), true);
+	}
+	
+	/**
+	 * A new array holding the items in list order, to be sorted.
+	 */
+	@SuppressWarnings("unchecked")
+	private I[] itemsForSort() {
+		I[] items = (I[]) new Object[this.numEl];
+		this.copyOut(0, items, 0, this.numEl);
+		return items;
+	}
+	
+	/**
+	 * Write the sorted items back over the list in order and bring the cursor and index up to date.
+	 */
+	private void writeBackSorted(I[] items) {
+		this.unshare();
+		this.fillDown(this.mod(this.head - 1, this.capacity), items, 0, this.numEl);
+		this.layoutVersion++;
+		this.position = ArrayedListIterator280.beforePos;
+		if( this.index != null ) this.rebuildIndex();
+	}
+	
+	/**
+	 * Sort the list.  The sort is stable.  The items are sorted in a separate array
+	 * and written back only once the sort succeeds, so if the comparator throws an
+	 * exception the list is left unchanged.  Afterwards the cursor is before().
+	 * @param c Comparator that orders the items, or null to use their natural ordering.
+	 * @timing O(n log n)
+	 */
+	public void sort(Comparator<? super I> c) {
+		if( this.numEl < 2 ) {
+			this.position = ArrayedListIterator280.beforePos;
+			return;
+		}
+		I[] items = this.itemsForSort();
+		Arrays.sort(items, c);
+		this.writeBackSorted(items);
+	}
+	
+	/**
+	 * Sort the list, splitting large lists into parts that are sorted and merged in
+	 * parallel in the common fork-join pool.  The sort is stable.  As with sort(), if
+	 * the comparator throws an exception the list is left unchanged.
+	 * Afterwards the cursor is before().
+	 * @param c Comparator that orders the items, or null to use their natural ordering.
+	 */
+	public void parallelSort(Comparator<? super I> c) {
+		if( this.numEl < 2 ) {
+			this.position = ArrayedListIterator280.beforePos;
+			return;
+		}
+		I[] items = this.itemsForSort();
+		Arrays.parallelSort(items, c);
+		this.writeBackSorted(items);
+	}
+	
 	
 	/**
 	 * Obtain the item at position idx in the list. The first element is at index 0.
@@ -455,6 +1108,279 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 	}
 	
 	
+	/**
+	 * Make room for n more elements, growing the list if it is growable.
+	 * @throws ContainerFull280Exception if the list cannot hold n more elements.
+	 */
+	private void reserve(int n) throws ContainerFull280Exception {
+		if( n > this.capacity - this.numEl ) {
+			if( !this.growable ) throw new ContainerFull280Exception("List cannot hold " + n + " more elements.");
+			this.ensureCapacity(this.numEl + n);
+		}
+		this.unshare();
+	}
+	
+	/**
+	 * Copy len slots starting at slot srcPos of the circular array src into the slots 
+	 * starting at dstPos of this list's array, wrapping around the end of either array.
+	 * Slot order is preserved, which is also list order since both arrays use the same 
+	 * layout.  Each contiguous run is moved with one System.arraycopy.
+	 */
+	private void copySlotsFrom(I[] src, int srcPos, int len, int dstPos) {
+		while( len > 0 ) {
+			int n = Math.min(len, Math.min(src.length - srcPos, this.capacity - dstPos));
+			System.arraycopy(src, srcPos, this.listElements, dstPos, n);
+			srcPos = (srcPos + n) % src.length;
+			dstPos = (dstPos + n) % this.capacity;
+			len -= n;
+		}
+	}
+	
+	/**
+	 * Copy n items into the slots counting down from slot start, wrapping at index 0.  
+	 * items[from] goes in slot start, items[from+1] in the slot below it, and so on.
+	 * The run is split at the wrap point so neither loop needs mod().
+	 */
+	private void fillDown(int start, I[] items, int from, int n) {
+		int first = Math.min(n, start + 1);
+		for(int i = 0; i < first; i++) this.listElements[start - i] = items[from + i];
+		for(int i = first, slot = this.capacity - 1; i < n; i++, slot--) this.listElements[slot] = items[from + i];
+	}
+	
+	/**
+	 * Copy the items at indices idx..idx+n-1 of the list into dest starting at destPos.
+	 * The slots are read counting down from the slot of index idx, split at the wrap point.
+	 */
+	private void copyOut(int idx, Object[] dest, int destPos, int n) {
+		if( n == 0 ) return;
+		int start = this.mod(this.head - 1 - idx, this.capacity);
+		int first = Math.min(n, start + 1);
+		for(int i = 0; i < first; i++) dest[destPos + i] = this.listElements[start - i];
+		for(int i = first, slot = this.capacity - 1; i < n; i++, slot--) dest[destPos + i] = this.listElements[slot];
+	}
+	
+	/**
+	 * Insert all of the items at the beginning of the list, keeping their order, so
+	 * that items[0] becomes the first element.  The cursor stays on the same element.
+	 * @param items Items to insert.
+	 * @precond There is room for items.length more elements, or the list is growable.
+	 * @throws ContainerFull280Exception if there is not enough room; nothing is inserted.
+	 * @timing O(m) for m items, with no per-item capacity checks.
+	 */
+	public void insertAllFirst(I[] items) throws ContainerFull280Exception {
+		int m = items.length;
+		if( m == 0 ) return;
+		this.reserve(m);
+		
+		// items[m-1] goes in slot head, items[0] in slot head+m-1.
+		this.fillDown(this.mod(this.head + m - 1, this.capacity), items, 0, m);
+		if( this.index != null )
+			for(int j = 0; j < m; j++) this.index.add(items[j], this.mod(this.head + m - 1 - j, this.capacity));
+		this.head = this.mod(this.head + m, this.capacity);
+		this.numEl += m;
+		this.firstSeq -= m;
+	}
+	
+	/**
+	 * Insert all of the items at the end of the list, keeping their order, so that
+	 * items[items.length-1] becomes the last element.  The cursor stays on the same element.
+	 * In overwrite mode, elements are dropped from the front to make room, and only the
+	 * last capacity() items are kept if there are more.
+	 * @param items Items to insert.
+	 * @precond There is room for items.length more elements, or the list is growable.
+	 * @throws ContainerFull280Exception if there is not enough room; nothing is inserted.
+	 * @timing O(m) for m items, with no per-item capacity checks.
+	 */
+	public void insertAllLast(I[] items) throws ContainerFull280Exception {
+		int from = 0, m = items.length;
+		if( this.overwriting && m > this.capacity - this.numEl ) {
+			if( m > this.capacity ) {
+				from = m - this.capacity;
+				m = this.capacity;
+			}
+			int drop = m - (this.capacity - this.numEl);
+			this.trimFirst(drop);
+			this.dropped += drop + from;
+		}
+		if( m == 0 ) return;
+		this.reserve(m);
+		
+		// items[from] goes in slot tail-1, items[from+m-1] in slot tail-m.
+		this.fillDown(this.mod(this.tail - 1, this.capacity), items, from, m);
+		if( this.index != null )
+			for(int j = 0; j < m; j++) this.index.add(items[from + j], this.mod(this.tail - 1 - j, this.capacity));
+		this.tail = this.mod(this.tail - m, this.capacity);
+		this.numEl += m;
+	}
+	
+	/**
+	 * Insert all of the elements of list at the beginning of this list, keeping their 
+	 * order.  If list is an ArrayedList280, its slots are copied with System.arraycopy.
+	 * @param list List whose elements are inserted.  Its cursor is not changed.
+	 * @throws ContainerFull280Exception if there is not enough room; nothing is inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	public void insertAllFirst(SimpleList280<? extends I> list) throws ContainerFull280Exception {
+		if( !(list instanceof ArrayedList280) ) {
+			this.insertAllFirst((I[]) elementsOf(list));
+			return;
+		}
+		ArrayedList280<? extends I> src = (ArrayedList280<? extends I>) list;
+		int m = src.numEl;
+		if( m == 0 ) return;
+		this.reserve(m);
+		
+		// The source's last element (slot tail) lands in slot head.
+		this.copySlotsFrom(src.listElements, src.tail, m, this.head);
+		if( this.index != null )
+			for(int j = 0; j < m; j++) { int slot = this.mod(this.head + j, this.capacity); this.index.add(this.listElements[slot], slot); }
+		this.head = this.mod(this.head + m, this.capacity);
+		this.numEl += m;
+		this.firstSeq -= m;
+	}
+	
+	/**
+	 * Insert all of the elements of list at the end of this list, keeping their 
+	 * order.  If list is an ArrayedList280, its slots are copied with System.arraycopy.
+	 * @param list List whose elements are inserted.  Its cursor is not changed.
+	 * @throws ContainerFull280Exception if there is not enough room; nothing is inserted.
+	 */
+	@SuppressWarnings("unchecked")
+	public void insertAllLast(SimpleList280<? extends I> list) throws ContainerFull280Exception {
+		if( !(list instanceof ArrayedList280) || this.overwriting ) {
+			this.insertAllLast((I[]) elementsOf(list));
+			return;
+		}
+		ArrayedList280<? extends I> src = (ArrayedList280<? extends I>) list;
+		int m = src.numEl;
+		if( m == 0 ) return;
+		this.reserve(m);
+		
+		int newTail = this.mod(this.tail - m, this.capacity);
+		this.copySlotsFrom(src.listElements, src.tail, m, newTail);
+		if( this.index != null )
+			for(int j = 0; j < m; j++) { int slot = this.mod(newTail + j, this.capacity); this.index.add(this.listElements[slot], slot); }
+		this.tail = newTail;
+		this.numEl += m;
+	}
+	
+	/**
+	 * The elements of any list, in order, without disturbing its cursor.
+	 */
+	protected static Object[] elementsOf(SimpleList280<?> list) {
+		java.util.ArrayList<Object> result = new java.util.ArrayList<Object>();
+		if( list.isEmpty() ) return result.toArray();
+		
+		CursorPosition280 savePos = list.currentPosition();
+		list.goFirst();
+		while( !list.after() ) {
+			result.add(list.item());
+			list.goForth();
+		}
+		list.goPosition(savePos);
+		return result.toArray();
+	}
+	
+	/**
+	 * Remove the first n elements of the list and copy them into dest in list order.
+	 * @param dest Array that receives the elements in dest[0..n-1].
+	 * @param n Number of elements to remove.
+	 * @precond 0 <= n <= count() and n <= dest.length
+	 * @throws InvalidArgument280Exception if n is negative.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 */
+	public void drainFirst(I[] dest, int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot remove " + n + " elements.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot remove " + n + " elements from a list of " + this.numEl + ".");
+		this.copyOut(0, dest, 0, n);
+		this.trimFirst(n);
+	}
+	
+	/**
+	 * Remove the last n elements of the list and copy them into dest in list order,
+	 * so that the former last element ends up in dest[n-1].
+	 * @param dest Array that receives the elements in dest[0..n-1].
+	 * @param n Number of elements to remove.
+	 * @precond 0 <= n <= count() and n <= dest.length
+	 * @throws InvalidArgument280Exception if n is negative.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 */
+	public void drainLast(I[] dest, int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot remove " + n + " elements.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot remove " + n + " elements from a list of " + this.numEl + ".");
+		this.copyOut(this.numEl - n, dest, 0, n);
+		this.trimLast(n);
+	}
+	
+	/**
+	 * Remove the first n elements by moving head.  A cursor on a removed element
+	 * moves to the new first element, as with deleteFirst().
+	 * @precond 0 <= n <= count()
+	 * @throws InvalidArgument280Exception if n is negative.
+	 */
+	protected void trimFirst(int n) throws InvalidArgument280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot remove " + n + " elements.");
+		if( n == 0 ) return;
+		this.unshare();
+		if( this.itemExists() && this.mod(this.head - 1 - this.position, this.capacity) < n )
+			this.position = this.mod(this.head - 1 - n, this.capacity);
+		for(int i = 0, slot = this.mod(this.head - 1, this.capacity); i < n; i++, slot = slot == 0 ? this.capacity - 1 : slot - 1) {
+			if( this.index != null ) this.index.remove(this.listElements[slot], slot);
+			this.listElements[slot] = null;
+		}
+		this.head = this.mod(this.head - n, this.capacity);
+		this.numEl -= n;
+		this.firstSeq += n;
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+	
+	/**
+	 * Remove the last n elements by moving tail.  A cursor on a removed element
+	 * moves to the new last element, as with deleteLast().
+	 * @precond 0 <= n <= count()
+	 * @throws InvalidArgument280Exception if n is negative.
+	 */
+	protected void trimLast(int n) throws InvalidArgument280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot remove " + n + " elements.");
+		if( n == 0 ) return;
+		this.unshare();
+		if( this.itemExists() && this.mod(this.head - 1 - this.position, this.capacity) >= this.numEl - n )
+			this.position = this.mod(this.tail + n, this.capacity);
+		for(int i = 0, slot = this.tail; i < n; i++, slot = (slot + 1) % this.capacity) {
+			if( this.index != null ) this.index.remove(this.listElements[slot], slot);
+			this.listElements[slot] = null;
+		}
+		this.tail = this.mod(this.tail + n, this.capacity);
+		this.numEl -= n;
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+	
+	/**
+	 * The elements of the list in order, in a new array.
+	 * @return an array holding the elements of the list, first element at index 0.
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[this.numEl];
+		this.copyOut(0, result, 0, this.numEl);
+		return result;
+	}
+	
+	/**
+	 * The elements of the list in order.  They are stored in a if it is large enough,
+	 * otherwise in a new array of the same type.
+	 * @param a Array to store the elements in.
+	 * @return an array holding the elements of the list, first element at index 0.
+	 */
+	public I[] toArray(I[] a) {
+		if( a.length < this.numEl ) a = Arrays.copyOf(a, this.numEl);
+		this.copyOut(0, a, 0, this.numEl);
+		if( a.length > this.numEl ) a[this.numEl] = null;
+		return a;
+	}
+	
+	
 	/**
 	 * Regression test.
 	 */
@@ -623,6 +1549,10 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 		if( !L.has(2) ) System.out.println("and it is.  OK!");
 		else System.out.println("and it is not.  ERROR!");
 
+		System.out.print("cursor should still be 'after' ....");
+		if( L.after() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
 		L.insertLast(3);
 		System.out.println("List should be: 5, 4, 3, 3");
 		System.out.print(  "     and it is: ");
@@ -849,6 +1779,9 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 		if( L.isEmpty() ) System.out.println("and it is.");
 		else System.out.println("ERROR: and it is *NOT*.");
 		
+		System.out.print("has(5) on an empty list should be false ....");
+		if( !L.has(5) ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
 		
 		L.insert(5);
 		L.delete(5);
@@ -861,5 +1794,364 @@ public class ArrayedList280<I> implements SimpleList280<I> {
 		if( L.isEmpty() ) System.out.println("and it is.");
 		else System.out.println("ERROR: and it is *NOT*.");
 
+		
+		// Test growable lists.
+		ArrayedList280<Integer> G = new ArrayedList280<Integer>(2, true);
+		G.insertLast(3);
+		G.insertFirst(2);
+		G.goFirst();
+		G.insertLast(4);
+		G.insertFirst(1);
+		for(int i=5; i <= 20; i++) G.insertLast(i);
+		
+		System.out.print("Count should be 20 ....");
+		if( G.count() == 20 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		System.out.print("Growable list should not be full ....");
+		if( !G.isFull() ) System.out.println("and it is not.  OK!");
+		else System.out.println("and it is.  ERROR!");
+		
+		System.out.print("cursor should still be at 2 ....");
+		if( G.item() == 2 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		for(int i=0; i < 20; i++)
+			if( G.getItemAtIndex(i) != i+1 )
+				System.out.println("Error: Item at index " + i + " should be " + (i+1) + " but it is: " + G.getItemAtIndex(i));
+		
+		ArrayedListIterator280<Integer> gIter = G.iterator();
+		gIter.goFirst();
+		int expected = 1;
+		while( gIter.itemExists() ) {
+			if( gIter.item() != expected ) 
+				System.out.println("Error: iterator expected " + expected + " but found " + gIter.item());
+			expected++;
+			gIter.goForth();
+		}
+		if( expected != 21 ) System.out.println("Error: iterator visited " + (expected-1) + " items instead of 20.");
+		
+		G.setShrinkable(true);
+		int grownCapacity = G.capacity();
+		for(int i=1; i <= 18; i++) G.deleteFirst();
+		System.out.print("Capacity should have shrunk ....");
+		if( G.capacity() < grownCapacity && G.capacity() >= 2 ) System.out.println("and it has.  OK!");
+		else System.out.println("and it has not.  ERROR!");
+		
+		System.out.println("List should be: 19, 20, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(G);
+		
+		System.out.println("Calling setShrinkable() on a fixed-capacity list.");
+		try {
+			L.setShrinkable(true);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");			
+		}
+		catch( InvalidState280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		
+		
+		// Test indexed lists.
+		ArrayedList280<Integer> X = new ArrayedList280<Integer>(8);
+		X.insertLast(1);
+		X.insertLast(2);
+		X.insertLast(3);
+		X.setIndexed(true);
+		X.insertLast(2);
+		X.insertFirst(7);
+		X.insertLast(9);
+		
+		System.out.print("has(9) should be true and has(4) should be false ....");
+		if( X.has(9) && !X.has(4) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+		
+		X.search(3);
+		X.delete(2);
+		System.out.println("List should be: 7, 1, 3, 2, 9, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(X);
+		
+		System.out.print("cursor should still be at 3 ....");
+		if( X.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		X.deleteFirst();
+		X.deleteLast();
+		X.delete(2);
+		X.insertFirst(4);
+		System.out.print("has() should find exactly 4, 1 and 3 ....");
+		if( X.has(4) && X.has(1) && X.has(3) && !X.has(2) && !X.has(7) && !X.has(9) ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		
+		System.out.print("obtain(3) should be 3 ....");
+		if( X.obtain(3) == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		// Test deleteItem() and removeIf().
+		ArrayedList280<Integer> D = new ArrayedList280<Integer>(8);
+		for(int i=1; i <= 8; i++) D.insertLast(i);
+		D.search(7);
+		D.deleteItem();
+		System.out.print("cursor should be at 8 after deleting 7 ....");
+		if( D.item() == 8 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		D.search(2);
+		D.deleteItem();
+		System.out.print("cursor should be at 3 after deleting 2 ....");
+		if( D.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		System.out.print("removeIf(even) should delete 3 items ....");
+		if( D.removeIf(x -> x % 2 == 0) == 3 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		System.out.println("List should be: 1, 3, 5, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(D);
+		System.out.print("cursor should still be at 3 ....");
+		if( D.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		System.out.println("removeIf() with a filter that throws.");
+		try {
+			D.removeIf(x -> { if( x == 5 ) throw new IllegalStateException(); return x == 1; });
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( IllegalStateException e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		System.out.print("list should still be 1, 3, 5 with the cursor at 3 ....");
+		if( D.toString().equals("1, 3, 5, ") && D.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		try {
+			ArrayedList280<Integer> DC = D.clone();
+			Object[] shared = D.listElements;
+			System.out.print("removeIf() that deletes nothing should not copy a shared array ....");
+			if( D.removeIf(x -> x > 5) == 0 && D.listElements == shared && DC.listElements == shared ) System.out.println("and it does not.  OK!");
+			else System.out.println("and it does.  ERROR!");
+		}
+		catch( CloneNotSupportedException e ) {
+			System.out.println("ERROR: unexpected exception: " + e);
+		}
+		
+		X.clear();
+		System.out.print("has(4) should be false after clear() ....");
+		X.insertLast(5);
+		if( !X.has(4) && X.has(5) ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		// Test the bulk operations.
+		ArrayedList280<Integer> B = new ArrayedList280<Integer>(8);
+		B.insertLast(4);
+		B.insertLast(5);
+		B.goFirst();
+		B.insertAllFirst(new Integer[] {1, 2, 3});
+		B.insertAllLast(new Integer[] {6, 7, 8});
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(B);
+		System.out.print("cursor should still be at 4 ....");
+		if( B.item() == 4 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		System.out.println("Bulk inserting into a full list.");
+		try {
+			B.insertAllLast(new Integer[] {9});
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerFull280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		
+		Integer[] drained = new Integer[3];
+		B.drainFirst(drained, 3);
+		System.out.print("drainFirst(3) should give 1, 2, 3 and leave the cursor at 4 ....");
+		if( drained[0] == 1 && drained[1] == 2 && drained[2] == 3 && B.item() == 4 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		B.drainLast(drained, 2);
+		System.out.print("drainLast(2) should give 7, 8 ....");
+		if( drained[0] == 7 && drained[1] == 8 && B.count() == 3 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		
+		System.out.println("Draining a negative number of elements.");
+		try {
+			B.drainFirst(drained, -1);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			if( B.count() == 3 ) System.out.println("Caught exception. OK!");
+			else System.out.println("Caught exception, but the list changed.  ERROR!");
+		}
+		try {
+			B.drainLast(drained, -1);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			if( B.count() == 3 ) System.out.println("Caught exception. OK!");
+			else System.out.println("Caught exception, but the list changed.  ERROR!");
+		}
+		
+		ArrayedList280<Integer> C = new ArrayedList280<Integer>(2, true);
+		C.insertAllLast(B);
+		C.insertAllFirst(C);
+		System.out.println("List should be: 4, 5, 6, 4, 5, 6, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(C);
+		
+		Integer[] all = C.toArray(new Integer[0]);
+		System.out.print("toArray() should hold 6 elements starting with 4 ....");
+		if( all.length == 6 && all[0] == 4 && all[5] == 6 && C.toArray().length == 6 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		
+		// Test overwrite mode.
+		ArrayedList280<Integer> O = new ArrayedList280<Integer>(3);
+		O.setOverwriting(true);
+		for(int i = 1; i <= 5; i++) O.insertLast(i);
+		System.out.println("List should be: 3, 4, 5, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(O);
+		O.insertAllLast(new Integer[] {6, 7, 8, 9});
+		System.out.print("list should hold 7, 8, 9 with 6 items dropped ....");
+		if( O.getItemAtIndex(0) == 7 && O.lastItem() == 9 && O.droppedCount() == 6 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		
+		ArrayedListIterator280<Integer> snap = O.snapshot(2);
+		O.insertLast(10);
+		String snapped = "";
+		for(snap.goFirst(); !snap.after(); snap.goForth()) snapped = snapped + snap.item() + ", ";
+		System.out.println("Snapshot should be: 8, 9, ");
+		System.out.print(  "         and it is: ");
+		System.out.println(snapped);
+		
+		System.out.println("Making a growable list overwrite.");
+		try {
+			C.setOverwriting(true);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidState280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		
+		// Test streams, on a list that wraps around the end of the array.
+		ArrayedList280<Integer> S = new ArrayedList280<Integer>(1000);
+		for(int i = 500; i < 1000; i++) S.insertLast(i);
+		for(int i = 499; i >= 0; i--) S.insertFirst(i);
+		System.out.print("parallel sum of 0..999 should be 499500 ....");
+		if( S.parallelStream().mapToLong(x -> x).sum() == 499500 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		System.out.print("parallel stream should keep list order ....");
+		if( S.parallelStream().filter(x -> x % 100 == 0).collect(java.util.stream.Collectors.toList()).equals(Arrays.asList(0, 100, 200, 300, 400, 500, 600, 700, 800, 900)) ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		System.out.print("stream of an empty list should be empty ....");
+		if( new ArrayedList280<Integer>(0).stream().count() == 0 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		// Test sorting.
+		S.search(700);
+		S.sort(Comparator.reverseOrder());
+		System.out.print("sort() should put 999 first and 0 last, with the cursor before ....");
+		if( S.firstItem() == 999 && S.lastItem() == 0 && S.getItemAtIndex(300) == 699 && S.before() ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		S.parallelSort(null);
+		boolean sorted = true;
+		for(int i = 0; i < 1000; i++) if( S.getItemAtIndex(i) != i ) sorted = false;
+		System.out.print("parallelSort() should restore 0..999 ....");
+		if( sorted ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		
+		S.search(500);
+		System.out.println("sort() with a comparator that throws.");
+		try {
+			S.sort((x, y) -> { if( x == 777 || y == 777 ) throw new IllegalStateException(); return y - x; });
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( IllegalStateException e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		sorted = S.itemExists() && S.item() == 500;
+		for(int i = 0; i < 1000; i++) if( S.getItemAtIndex(i) != i ) sorted = false;
+		System.out.print("list should still be 0..999 with the cursor at 500 ....");
+		if( sorted ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		
+		// Test copy-on-write clones.
+		ArrayedList280<Integer> P = new ArrayedList280<Integer>(5);
+		P.setIndexed(true);
+		P.insertLast(1);
+		P.insertLast(2);
+		P.insertLast(3);
+		try {
+			ArrayedList280<Integer> Q = P.clone();
+			System.out.print("clone should share the array until it is changed ....");
+			if( Q.listElements == P.listElements ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+			
+			P.deleteFirst();
+			P.insertLast(4);
+			Q.insertFirst(0);
+			System.out.println("Lists should be: 2, 3, 4, and 0, 1, 2, 3, ");
+			System.out.print(  "         and are: ");
+			System.out.println(P + "and " + Q);
+			System.out.print("each list's index should match its own elements ....");
+			if( P.has(4) && !P.has(1) && Q.has(1) && !Q.has(4) && Q.has(0) ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+		}
+		catch( CloneNotSupportedException e ) {
+			System.out.println("ERROR: unexpected exception: " + e);
+		}
+		
+		// Test saved positions.
+		ArrayedList280<Integer> H = new ArrayedList280<Integer>(6);
+		H.insertLast(10);
+		H.insertLast(20);
+		H.insertLast(30);
+		H.search(20);
+		CursorPosition280 h = H.currentPosition();
+		H.deleteFirst();
+		H.insertFirst(5);
+		H.insertFirst(1);
+		H.insertLast(40);
+		H.goPosition(h);
+		System.out.print("saved position should still be on 20 after changes at both ends ....");
+		if( H.item() == 20 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		H.search(40);
+		h = H.currentPosition();
+		H.deleteLast();
+		H.insertLast(50);
+		System.out.println("Going to the saved position of a deleted element.");
+		try {
+			H.goPosition(h);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( IllegalArgumentException e ) {
+			System.out.println("Caught exception. OK!");
+		}
+		
+		// Test batch deletion.
+		ArrayedList280<Integer> R = new ArrayedList280<Integer>(10);
+		for(int i = 0; i < 10; i++) R.insertLast(i);
+		R.search(5);
+		R.deleteRange(2, 7);
+		System.out.println("List should be: 0, 1, 7, 8, 9, ");
+		System.out.print(  "         and is: ");
+		System.out.println(R);
+		System.out.print("cursor should move from the deleted 5 to 7 ....");
+		if( R.item() == 7 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		R.deleteFirst(2);
+		R.deleteLast(2);
+		System.out.print("deleteFirst(2) and deleteLast(2) should leave only 7 ....");
+		if( R.count() == 1 && R.firstItem() == 7 && R.item() == 7 ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+		System.out.println("Deleting more items than the list holds.");
+		try {
+			R.deleteFirst(2);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
 	}
 }
@@ -0,0 +1,81 @@
+package lib280.list;
+
+import java.util.HashMap;
+
+/**
+ * A hash index from items to the array slots that hold them, used by the
+ * indexed mode of ArrayedList280.  Items are matched by equals() and hashCode().
+ * An item that occurs more than once maps to all of its slots.
+ */
+class ArrayedListIndex280<I> {
+
+	/**
+	 * For each item, element 0 is the number of slots and elements 1..n are the slots.
+	 */
+	private HashMap<I, int[]> slots;
+
+	ArrayedListIndex280() {
+		this.slots = new HashMap<I, int[]>();
+	}
+
+	/**
+	 * Record that item is stored in slot.
+	 */
+	void add(I item, int slot) {
+		int[] s = this.slots.get(item);
+		if( s == null ) {
+			s = new int[2];
+			this.slots.put(item, s);
+		}
+		else if( s[0] + 1 == s.length ) {
+			int[] bigger = new int[s.length * 2];
+			System.arraycopy(s, 0, bigger, 0, s.length);
+			s = bigger;
+			this.slots.put(item, s);
+		}
+		s[0]++;
+		s[s[0]] = slot;
+	}
+
+	/**
+	 * Record that item is no longer stored in slot.
+	 */
+	void remove(I item, int slot) {
+		int[] s = this.slots.get(item);
+		if( s == null ) return;
+		for(int i = 1; i <= s[0]; i++) {
+			if( s[i] == slot ) {
+				s[i] = s[s[0]];
+				s[0]--;
+				break;
+			}
+		}
+		if( s[0] == 0 ) this.slots.remove(item);
+	}
+
+	/**
+	 * Record that item has moved from slot from to slot to.
+	 */
+	void move(I item, int from, int to) {
+		int[] s = this.slots.get(item);
+		if( s == null ) return;
+		for(int i = 1; i <= s[0]; i++) {
+			if( s[i] == from ) {
+				s[i] = to;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * The slots holding item, with the number of slots in element 0, or null if
+	 * item is not in the index.  The array must not be modified.
+	 */
+	int[] slotsOf(I item) {
+		return this.slots.get(item);
+	}
+
+	void clear() {
+		this.slots.clear();
+	}
+}
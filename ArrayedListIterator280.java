@@ -45,6 +45,26 @@ public class ArrayedListIterator280<I> implements LinearIterator280<I> {
 	 */
 	protected int position;
 	
+	/**
+	 * List this is a saved position of, or null if it is an ordinary iterator.
+	 */
+	protected ArrayedList280<I> owner;
+	
+	/**
+	 * Sequence number in owner of the element at the saved position.
+	 */
+	protected long seq;
+	
+	/**
+	 * owner's layout version when the position was saved.
+	 */
+	protected long version;
+	
+	/**
+	 * The element at the saved position.
+	 */
+	protected I savedItem;
+	
 	/**
 	 * Initialize an iterator.
 	 * @param elements The elements in the list.
@@ -60,6 +80,31 @@ public class ArrayedListIterator280<I> implements LinearIterator280<I> {
 		this.position = head;
 	}
 	
+	/**
+	 * Initialize an iterator over a copy of the last n elements of list, or of all of
+	 * them if it has fewer.  The iterator starts in the before position.
+	 * @param list The list to take the elements from.
+	 * @param n Maximum number of elements to copy.
+	 */
+	@SuppressWarnings("unchecked")
+	public ArrayedListIterator280(ArrayedList280<I> list, int n) {
+		int m = Math.max(0, Math.min(n, list.numEl));
+		this.listElements = (I[]) new Object[Math.max(m, 1)];
+		this.capacity = this.listElements.length;
+		
+		// The last m elements occupy the m slots starting at the list's tail; 
+		// they keep their order at the bottom of the new array.
+		int first = Math.min(m, list.capacity - list.tail);
+		if( m > 0 ) {
+			System.arraycopy(list.listElements, list.tail, this.listElements, 0, first);
+			System.arraycopy(list.listElements, 0, this.listElements, first, m - first);
+		}
+		this.tail = 0;
+		this.head = m % this.capacity;
+		this.numEl = m;
+		this.position = beforePos;
+	}
+	
 	
 	private int mod( int a, int b ) {
 		return ((a % b) + b) % b;
@@ -115,7 +160,7 @@ public class ArrayedListIterator280<I> implements LinearIterator280<I> {
 	
 	@Override
 	public void goForth() throws AfterTheEnd280Exception {
-		if( this.position == ArrayedListIterator280.beforePos ) this.position = head;
+		if( this.position == ArrayedListIterator280.beforePos ) this.goFirst();
 		else if( this.position == this.tail ) this.position = ArrayedListIterator280.afterPos;
 		else this.position = this.mod(this.position - 1, this.capacity);
 	}
@@ -123,7 +168,8 @@ public class ArrayedListIterator280<I> implements LinearIterator280<I> {
 	
 	@Override
 	public void goFirst() {
-		this.position = this.mod(this.head-1, this.capacity);
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.head-1, this.capacity);
 	}
 
 	@Override
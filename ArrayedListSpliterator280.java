@@ -0,0 +1,110 @@
+package lib280.list;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over a range of indices of an ArrayedList280.  It splits the
+ * range in half by index, so both halves know their exact size, and walks the
+ * circular array without mod() by splitting the range at the wrap point.
+ *
+ * The list must not be modified while the spliterator, or a stream built on
+ * it, is in use.
+ */
+public class ArrayedListSpliterator280<I> implements Spliterator<I> {
+
+	/**
+	 * Array where the elements are stored.
+	 */
+	protected I[] listElements;
+
+	/**
+	 * Index of the beginning of the list, as in ArrayedList280.
+	 */
+	protected int head;
+
+	/**
+	 * Size of the listElements array.
+	 */
+	protected int capacity;
+
+	/**
+	 * Index of the next element to visit.
+	 */
+	protected int lo;
+
+	/**
+	 * One past the index of the last element to visit.
+	 */
+	protected int hi;
+
+	/**
+	 * Initialize a spliterator over the elements of list with indices lo to hi-1.
+	 */
+	public ArrayedListSpliterator280(ArrayedList280<I> list, int lo, int hi) {
+		this(list.listElements, list.head, lo, hi);
+	}
+
+	private ArrayedListSpliterator280(I[] listElements, int head, int lo, int hi) {
+		this.listElements = listElements;
+		this.head = head;
+		this.capacity = listElements.length;
+		this.lo = lo;
+		this.hi = hi;
+	}
+
+	/**
+	 * Slot of the element at index idx.
+	 */
+	private int slotOf(int idx) {
+		int slot = this.head - 1 - idx;
+		return slot < 0 ? slot + this.capacity : slot;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super I> action) {
+		if( this.lo >= this.hi ) return false;
+		action.accept(this.listElements[this.slotOf(this.lo++)]);
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super I> action) {
+		if( this.lo >= this.hi ) return;
+		int n = this.hi - this.lo;
+		int start = this.slotOf(this.lo);
+		this.lo = this.hi;
+
+		// Slots count down from start to 0, then from the top of the array.
+		int first = Math.min(n, start + 1);
+		for(int i = 0; i < first; i++) action.accept(this.listElements[start - i]);
+		for(int i = first, slot = this.capacity - 1; i < n; i++, slot--) action.accept(this.listElements[slot]);
+	}
+
+	/**
+	 * Split off the first half of the remaining range.
+	 */
+	@Override
+	public Spliterator<I> trySplit() {
+		int mid = (this.lo + this.hi) >>> 1;
+		if( mid <= this.lo ) return null;
+		ArrayedListSpliterator280<I> prefix = new ArrayedListSpliterator280<I>(this.listElements, this.head, this.lo, mid);
+		this.lo = mid;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return this.hi - this.lo;
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return this.hi - this.lo;
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+	}
+}
@@ -33,8 +33,22 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 	 */
 	protected BilinkedNode280<I> createNewNode(I item)
 	{
-		// TODO
-		return new BilinkedNode280<I>(item);
+		// Every node in the pool was created here, so it is a BilinkedNode280.
+		BilinkedNode280<I> node = (BilinkedNode280<I>) reuseNode(item);
+		return node != null ? node : new BilinkedNode280<I>(item);
+	}
+
+	/**
+	 * Put a node that has been unlinked from the list into the pool, clearing its
+	 * previous link as well as its item and next link.
+	 * @param node - a node that is no longer in the list
+	 */
+	@Override
+	protected void recycleNode(LinkedNode280<I> node)
+	{
+		if (this.freeCount >= this.poolCapacity) return;
+		((BilinkedNode280<I>) node).setPreviousNode(null);
+		super.recycleNode(node);
 	}
 
 	/**
@@ -48,11 +62,15 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		temp.setNextNode(this.head);
 		if(!this.isEmpty()){
 			((BilinkedNode280<I>) this.head).setPreviousNode(temp);
+			// A cursor on the old first node now has the new node before it.
+			if (this.position == this.head) this.prevPosition = temp;
 		}
 		if(this.tail == null) {
 			this.tail = temp;
 		}
 		this.head = temp;
+		this.numEl++;
+		this.nodeInserted(temp, 0);
 	}
 
 	/**
@@ -85,9 +103,12 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 			newNode.setPreviousNode((BilinkedNode280<I>)this.prevPosition);
 			prevPosition.setNextNode(newNode);
 			((BilinkedNode280<I>)this.position).setPreviousNode(newNode);
+			int idx = position == fingerNode ? fingerIndex : -1;
 			
 			// since position didn't change, but we changed it's predecessor, prevPosition needs to be updated to be the new previous node.
 			prevPosition = newNode;			
+			numEl++;
+			nodeInserted(newNode, idx);
 		}
 	}
 	
@@ -112,8 +133,11 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 			insertLast(x); 
 		else if (after()) // if after then have to deal with previous node  
 		{
+			// insertLast() keeps an after() cursor after the new node, so move it back onto the node.
+			LinkedNode280<I> oldTail = this.tail;
 			insertLast(x); 
-			this.position = this.prevPosition.nextNode();
+			this.position = this.tail;
+			this.prevPosition = oldTail;
 		}
 		else // in the list, so create a node and set the pointers to the new node 
 		{
@@ -122,6 +146,9 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 			temp.setPreviousNode((BilinkedNode280<I>)this.position);
 			((BilinkedNode280<I>) this.position.nextNode()).setPreviousNode(temp);
 			this.position.setNextNode(temp);
+			int idx = this.position == this.fingerNode ? this.fingerIndex + 1 : -1;
+			this.numEl++;
+			this.nodeInserted(temp, idx);
 		}
 	}
 
@@ -137,8 +164,12 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		else {
 			BilinkedNode280<I> temp = createNewNode(x);
 			temp.setPreviousNode((BilinkedNode280<I>) this.tail);
+			// A cursor after the end stays after the new last node.
+			if (this.after()) this.prevPosition = temp;
 			this.tail.setNextNode(temp);
 			this.tail = temp;
+			this.numEl++;
+			this.nodeInserted(temp, this.numEl - 1);
 		}
 
 	}
@@ -158,13 +189,25 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		}
 		else if(this.position == this.tail)
 		{
+			// Deleting the last item leaves the cursor after the end, as in LinkedList280.
 			this.deleteLast();
+			this.goAfter();
 		}
 		else
 		{
+			int idx = this.position == this.fingerNode ? this.fingerIndex : -1;
+			LinkedNode280<I> deleted = this.position;
 			this.prevPosition.nextNode = this.position.nextNode();
 			this.position = this.position.nextNode();
 			((BilinkedNode280<I>)this.position).setPreviousNode((BilinkedNode280<I>)this.prevPosition);
+			this.numEl--;
+			this.nodesDeleted(idx, 1);
+			this.recycleNode(deleted);
+			if (idx >= 0)
+			{
+				this.fingerNode = this.position;
+				this.fingerIndex = idx;
+			}
 
 		}
 
@@ -181,6 +224,7 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		// Find the item to be deleted.
 		search(x);
 		if( !this.itemExists() ) throw new ItemNotFound280Exception("Item to be deleted wasn't in the list.");
+		int idx = this.position == this.fingerNode ? this.fingerIndex : -1;
 
 		// If we are about to delete the item that the cursor was pointing at,
 		// advance the cursor in the saved position, but leave the predecessor where
@@ -223,6 +267,9 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		// Clean up references in the node being deleted.
 		this.position.setNextNode(null);
 		((BilinkedNode280<I>)this.position).setPreviousNode(null);
+		this.numEl--;
+		this.nodesDeleted(idx, 1);
+		this.recycleNode(this.position);
 		
 		// Restore the old, possibly modified cursor.
 		this.goPosition(savePos);
@@ -234,13 +281,9 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 	 */
 	public void deleteFirst() throws ContainerEmpty280Exception
 	{
-		// TODO
 		if(this.isEmpty())
 			throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
-
-		this.head = this.head.nextNode();
-		this.prevPosition = null;
-
+		this.deleteFirst(1);
 	}
 
 	/**
@@ -249,24 +292,119 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 	 */
 	public void deleteLast() throws ContainerEmpty280Exception
 	{
-		// TODO
 		if(this.isEmpty())
 			throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
-		if(this.tail == this.head)
+		this.deleteLast(1);
+	}
+
+	/**
+	 * Unlink the nodes after pred, up to and including last, and link the node after
+	 * them back to pred.
+	 * @param pred Node before the first node to unlink, or null if the first node is unlinked.
+	 * @param last Last node to unlink.
+	 * @param from Index of the first node to unlink.
+	 * @param n Number of nodes unlinked.
+	 */
+	@Override
+	protected void unlinkRange(LinkedNode280<I> pred, LinkedNode280<I> last, int from, int n)
+	{
+		LinkedNode280<I> next = last.nextNode();
+		super.unlinkRange(pred, last, from, n);
+		if (next != null)
+			((BilinkedNode280<I>) next).setPreviousNode((BilinkedNode280<I>) pred);
+	}
+
+	/**
+	 * Remove the last n items, walking back from the last node.  If the cursor was
+	 * on a removed item, it moves to the new last item. <br>
+	 * Analysis: Time = O(n)
+	 * @param n number of items to remove
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception
+	{
+		if (n < 0) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if (n > this.numEl) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if (n == 0) return;
+
+		// Find the first node to remove, noting whether the cursor is on a node passed.
+		BilinkedNode280<I> first = (BilinkedNode280<I>) this.tail;
+		boolean positionInside = first == this.position;
+		for (int i = 1; i < n; i++)
 		{
-			this.head = null;
-			this.tail = null;
+			first = first.previousNode();
+			if (first == this.position) positionInside = true;
 		}
-		else
+
+		boolean wasAfter = this.after();
+		BilinkedNode280<I> pred = first == this.head ? null : first.previousNode();
+		this.unlinkRange(pred, this.tail, this.numEl - n, n);
+		if (this.isEmpty())
+			this.goBefore();
+		else if (positionInside)
 		{
-			this.tail = ((BilinkedNode280<I>)this.tail).previousNode();
-			this.tail.setNextNode(null);
+			this.position = pred;
+			this.prevPosition = pred == this.head ? null : pred.previousNode();
 		}
+		else if (wasAfter)
+			this.prevPosition = pred;
+	}
 
+	
+	/**
+	 * Link node into the list after pred, setting the previous links of node and
+	 * of the node after it.
+	 * @param pred Node that will precede node; it is not the last node.
+	 */
+	@Override
+	protected void linkAfter(LinkedNode280<I> pred, LinkedNode280<I> node)
+	{
+		super.linkAfter(pred, node);
+		((BilinkedNode280<I>) node).setPreviousNode((BilinkedNode280<I>) pred);
+		((BilinkedNode280<I>) node.nextNode()).setPreviousNode((BilinkedNode280<I>) node);
+	}
 
+	/**
+	 * Find the node at index idx.  When the nearest node after idx whose index is
+	 * known, the next checkpoint, the finger or the last node, is closer than the
+	 * nearest one before it, walk back from it instead of forward. <br>
+	 * Analysis: Time = O(sqrt(n)) amortized
+	 * @param idx index of the node; the first node is at index 0
+	 */
+	@Override
+	protected LinkedNode280<I> nodeAt(int idx)
+	{
+		LinkedListCheckpoints280<I> cp = this.checkpoints();
+		int j = cp.floor(idx);
+		int before = j < 0 ? 0 : cp.index(j);
+		if (this.fingerNode != null && this.fingerIndex <= idx && this.fingerIndex > before)
+			before = this.fingerIndex;
+
+		LinkedNode280<I> node = this.tail;
+		int at = this.numEl - 1;
+		int k = cp.ceiling(idx + 1);
+		if (k >= 0 && cp.index(k) < at)
+		{
+			node = cp.node(k);
+			at = cp.index(k);
+		}
+		if (this.fingerNode != null && this.fingerIndex > idx && this.fingerIndex < at)
+		{
+			node = this.fingerNode;
+			at = this.fingerIndex;
+		}
+		if (at - idx >= idx - before)
+			return super.nodeAt(idx);
+
+		cp.walked(at - idx);
+		for ( ; at > idx; at--)
+			node = ((BilinkedNode280<I>) node).previousNode();
+		this.fingerNode = node;
+		this.fingerIndex = idx;
+		return node;
 	}
 
-	
 	/**
 	 * Move the cursor to the last item in the list.
 	 * @precond The list is not empty.
@@ -282,6 +420,8 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		{
 			this.prevPosition = ((BilinkedNode280<I>)this.tail).previousNode();
 			this.position = this.tail;
+			this.fingerNode = this.tail;
+			this.fingerIndex = this.numEl - 1;
 		}
 
 
@@ -297,6 +437,7 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 	public void goBack() throws BeforeTheStart280Exception
 	{
 		// TODO
+		boolean onFinger = this.position != null && this.position == this.fingerNode;
 		if(this.before())
 			throw new BeforeTheStart280Exception("Cannot go back further.");
 		else if(this.position==this.head)
@@ -310,6 +451,13 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 			this.prevPosition = ((BilinkedNode280<I>)this.position).previousNode();
 		}
 
+		// Keep the finger on the cursor.
+		if (onFinger && this.position != null)
+		{
+			this.fingerNode = this.position;
+			this.fingerIndex--;
+		}
+
 
 
 	}
@@ -422,6 +570,89 @@ public class BilinkedList280<I> extends LinkedList280<I> implements BilinearIter
 		testList3.goBack();
 		System.out.println(testList3.item());
 
+		// Test batch deletion.
+		BilinkedList280<Integer> testList4 = new BilinkedList280<>();
+		for (int i = 0; i < 10; i++) testList4.insertLast(i);
+		testList4.goLast();
+		testList4.deleteLast(3);
+		testList4.deleteFirst(2);
+		testList4.deleteRange(1, 3);
+		System.out.println("List should be: 2, 5, 6, ");
+		System.out.print(  "         and is: ");
+		System.out.println(testList4);
+		System.out.print("cursor should move from the deleted 9 to 6, and back to 5 ....");
+		boolean ok = testList4.item() == 6;
+		testList4.goBack();
+		if (ok && testList4.item() == 5) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// Test count().
+		testList4.insertNext(7);
+		testList4.insertPriorGo(4);
+		testList4.delete(2);
+		System.out.print("count() should be 4 after insertNext, insertPriorGo and delete ....");
+		if (testList4.count() == 4) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		testList4.clear();
+		testList4.insertLast(1);
+		testList4.insertLast(2);
+		testList4.goAfter();
+		testList4.insertNext(3);
+		System.out.print("insertNext(3) from after() should leave the cursor on 3 ....");
+		if (testList4.itemExists() && testList4.item() == 3 && testList4.lastItem() == 3) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		testList4.goBack();
+		System.out.print("goBack() from 3 should reach 2 ....");
+		if (testList4.itemExists() && testList4.item() == 2) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		testList4.clear();
+		System.out.print("count() should be 0 after clear ....");
+		if (testList4.count() == 0) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		// Test positional access.
+		BilinkedList280<Integer> testList5 = new BilinkedList280<>();
+		for (int i = 0; i < 1000; i++) testList5.insertLast(i);
+		testList5.insertAtIndex(500, -1);
+		testList5.deleteAtIndex(100);
+		System.out.print("item 498 should be 499 and item 499 should be -1 ....");
+		if (testList5.getItemAtIndex(498) == 499 && testList5.getItemAtIndex(499) == -1) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+		testList5.goIndex(998);
+		testList5.goForth();
+		testList5.deleteItem();
+		System.out.print("after deleting the last item with the cursor, item 998 should be 998 ....");
+		if (testList5.count() == 999 && testList5.getItemAtIndex(998) == 998 && testList5.after()) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		System.out.println("Getting an item past the end.");
+		try
+		{
+			testList5.getItemAtIndex(999);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch (InvalidArgument280Exception e)
+		{
+			System.out.println("Caught exception. OK!");
+		}
+
+		// Test node pooling.
+		BilinkedList280<Integer> testList6 = new BilinkedList280<>();
+		testList6.setNodePoolCapacity(16);
+		for (int i = 0; i < 10; i++) testList6.insertLast(i);
+		for (int i = 10; i < 1000; i++)
+		{
+			testList6.deleteFirst();
+			testList6.insertLast(i);
+		}
+		System.out.print("a queue of 10 items should allocate only 10 nodes ....");
+		if (testList6.nodePoolMisses() == 10 && testList6.nodePoolHits() == 990 && testList6.firstItem() == 990)
+			System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		testList6.deleteFirst(5);
+		System.out.print("deleting 5 items should leave 5 nodes in the pool ....");
+		if (testList6.nodePoolSize() == 5 && testList6.count() == 5) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
 
 
 	}
@@ -0,0 +1,390 @@
+/* BlockingArrayedQueue280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lib280.exception.ContainerEmpty280Exception;
+import lib280.exception.ContainerFull280Exception;
+import lib280.exception.InvalidArgument280Exception;
+
+/**
+ * A bounded first-in first-out queue, stored in an ArrayedList280, that is safe
+ * for any number of producer and consumer threads.  Instead of throwing an
+ * exception, put() waits while the queue is full and take() waits while it is
+ * empty; offer() and poll() can wait for a limited time or not at all.
+ * Since poll() returns null to mean the queue is empty, null items are not
+ * allowed.
+ *
+ * All access goes through one ReentrantLock with a condition for "not full"
+ * and one for "not empty".  Waiting threads park on a condition rather than a
+ * monitor, so virtual threads waiting here release their carrier thread.
+ *
+ * @param <I> Type of the items in the queue.
+ */
+public class BlockingArrayedQueue280<I> {
+
+	/**
+	 * List holding the items, first item at the front.
+	 */
+	protected ArrayedList280<I> list;
+
+	/**
+	 * Guards every access to list.
+	 */
+	protected final ReentrantLock lock;
+
+	/**
+	 * Signalled when an item is removed.
+	 */
+	protected final Condition notFull;
+
+	/**
+	 * Signalled when an item is inserted.
+	 */
+	protected final Condition notEmpty;
+
+
+	/**
+	 * Create a new, empty queue.
+	 * @param capacity The maximum number of items in the queue.
+	 */
+	public BlockingArrayedQueue280(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * Create a new, empty queue.
+	 * @param capacity The maximum number of items in the queue.
+	 * @param fair If true, waiting threads get the lock in the order they asked for it.
+	 */
+	public BlockingArrayedQueue280(int capacity, boolean fair) {
+		this.list = new ArrayedList280<I>(capacity);
+		this.lock = new ReentrantLock(fair);
+		this.notFull = this.lock.newCondition();
+		this.notEmpty = this.lock.newCondition();
+	}
+
+	/**
+	 * Check that x can be inserted.
+	 * @throws InvalidArgument280Exception if x is null.
+	 */
+	private static void checkItem(Object x) throws InvalidArgument280Exception {
+		if( x == null ) throw new InvalidArgument280Exception("Cannot insert null into a blocking queue.");
+	}
+
+	/**
+	 * Insert x at the end of the queue and wake a waiting consumer.  The lock must be held.
+	 */
+	private void enqueue(I x) {
+		this.list.insertLast(x);
+		this.notEmpty.signal();
+	}
+
+	/**
+	 * Remove the first item of the queue and wake a waiting producer.  The lock must be held.
+	 */
+	private I dequeue() {
+		I x = this.list.firstItem();
+		this.list.deleteFirst();
+		this.notFull.signal();
+		return x;
+	}
+
+	/**
+	 * Insert x at the end of the queue, waiting while the queue is full.
+	 * @param x item to be inserted
+	 * @throws InvalidArgument280Exception if x is null.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public void put(I x) throws InterruptedException, InvalidArgument280Exception {
+		checkItem(x);
+		this.lock.lockInterruptibly();
+		try {
+			while( this.list.isFull() ) this.notFull.await();
+			this.enqueue(x);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Insert x at the end of the queue if there is room.
+	 * @param x item to be inserted
+	 * @return true if x was inserted, false if the queue was full.
+	 * @throws InvalidArgument280Exception if x is null.
+	 */
+	public boolean offer(I x) throws InvalidArgument280Exception {
+		checkItem(x);
+		this.lock.lock();
+		try {
+			if( this.list.isFull() ) return false;
+			this.enqueue(x);
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Insert x at the end of the queue, waiting up to the given time for room.
+	 * @param x item to be inserted
+	 * @param timeout How long to wait, in units of unit.
+	 * @param unit Unit of timeout.
+	 * @return true if x was inserted, false if the time ran out first.
+	 * @throws InvalidArgument280Exception if x is null.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public boolean offer(I x, long timeout, TimeUnit unit) throws InterruptedException, InvalidArgument280Exception {
+		checkItem(x);
+		long nanos = unit.toNanos(timeout);
+		this.lock.lockInterruptibly();
+		try {
+			while( this.list.isFull() ) {
+				if( nanos <= 0 ) return false;
+				nanos = this.notFull.awaitNanos(nanos);
+			}
+			this.enqueue(x);
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Insert x at the end of the queue.
+	 * @param x item to be inserted
+	 * @precond !isFull() && x != null
+	 * @throws ContainerFull280Exception if the queue is full.
+	 * @throws InvalidArgument280Exception if x is null.
+	 */
+	public void insertLast(I x) throws ContainerFull280Exception, InvalidArgument280Exception {
+		if( !this.offer(x) ) throw new ContainerFull280Exception();
+	}
+
+	/**
+	 * Remove and return the first item, waiting while the queue is empty.
+	 * @return the first item in the queue.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public I take() throws InterruptedException {
+		this.lock.lockInterruptibly();
+		try {
+			while( this.list.isEmpty() ) this.notEmpty.await();
+			return this.dequeue();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove and return the first item if there is one.
+	 * @return the first item, or null if the queue was empty.
+	 */
+	public I poll() {
+		this.lock.lock();
+		try {
+			if( this.list.isEmpty() ) return null;
+			return this.dequeue();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove and return the first item, waiting up to the given time for one.
+	 * @param timeout How long to wait, in units of unit.
+	 * @param unit Unit of timeout.
+	 * @return the first item, or null if the time ran out first.
+	 * @throws InterruptedException if the thread is interrupted while waiting.
+	 */
+	public I poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		this.lock.lockInterruptibly();
+		try {
+			while( this.list.isEmpty() ) {
+				if( nanos <= 0 ) return null;
+				nanos = this.notEmpty.awaitNanos(nanos);
+			}
+			return this.dequeue();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Delete the first item in the queue.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the queue is empty.
+	 */
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		this.lock.lock();
+		try {
+			if( this.list.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty queue.");
+			this.dequeue();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove up to dest.length items from the front of the queue into dest, without waiting.
+	 * @param dest Array that receives the items, first item at index 0.
+	 * @return the number of items removed.
+	 */
+	public int drainTo(I[] dest) {
+		this.lock.lock();
+		try {
+			int n = Math.min(dest.length, this.list.count());
+			this.list.drainFirst(dest, n);
+			if( n > 0 ) this.notFull.signalAll();
+			return n;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Number of items in the queue.
+	 */
+	public int count() {
+		this.lock.lock();
+		try {
+			return this.list.count();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	public boolean isEmpty() {
+		return this.count() == 0;
+	}
+
+	public boolean isFull() {
+		return this.count() == this.list.capacity();
+	}
+
+	/**
+	 * Maximum number of items in the queue.
+	 */
+	public int capacity() {
+		return this.list.capacity();
+	}
+
+	public String toString() {
+		this.lock.lock();
+		try {
+			return this.list.toString();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		BlockingArrayedQueue280<Integer> Q = new BlockingArrayedQueue280<Integer>(2);
+
+		try {
+			System.out.print("poll() with a timeout on an empty queue should give null ....");
+			if( Q.poll(10, TimeUnit.MILLISECONDS) == null ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+
+			Q.put(1);
+			Q.put(2);
+			System.out.print("offer() with a timeout on a full queue should fail ....");
+			if( !Q.offer(3, 10, TimeUnit.MILLISECONDS) && Q.isFull() ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+
+			System.out.println("Inserting into a full queue.");
+			try {
+				Q.insertLast(3);
+				System.out.println("ERROR: exception should have been thrown, but wasn't.");
+			}
+			catch( ContainerFull280Exception e ) {
+				System.out.println("Caught exception. OK!");
+			}
+
+			System.out.println("Inserting null into a queue.");
+			try {
+				Q.poll();
+				Q.offer(null);
+				System.out.println("ERROR: exception should have been thrown, but wasn't.");
+			}
+			catch( InvalidArgument280Exception e ) {
+				System.out.println("Caught exception. OK!");
+			}
+
+			System.out.print("deleteFirst() should remove 2 and leave an empty queue ....");
+			Q.deleteFirst();
+			if( Q.isEmpty() ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+
+			System.out.println("Deleting from an empty queue.");
+			try {
+				Q.deleteFirst();
+				System.out.println("ERROR: exception should have been thrown, but wasn't.");
+			}
+			catch( ContainerEmpty280Exception e ) {
+				System.out.println("Caught exception. OK!");
+			}
+
+			Q.put(1);
+			Q.put(2);
+			System.out.print("take() should give 1 then 2 ....");
+			if( Q.take() == 1 && Q.take() == 2 && Q.isEmpty() ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+
+			// Many producers blocking on a small queue, one consumer.
+			final int producers = 50, perProducer = 200;
+			final BlockingArrayedQueue280<Integer> B = new BlockingArrayedQueue280<Integer>(4);
+			Thread[] threads = new Thread[producers];
+			for(int p = 0; p < producers; p++) {
+				threads[p] = new Thread(() -> {
+					try {
+						for(int i = 1; i <= perProducer; i++) B.put(i);
+					}
+					catch( InterruptedException e ) {
+						Thread.currentThread().interrupt();
+					}
+				});
+				threads[p].start();
+			}
+			long sum = 0;
+			for(int i = 0; i < producers * perProducer; i++) sum += B.take();
+			for(Thread t : threads) t.join();
+			System.out.print("consumer should receive every item ....");
+			if( sum == (long) producers * perProducer * (perProducer + 1) / 2 && B.isEmpty() ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+
+			B.offer(7);
+			B.offer(8);
+			B.offer(9);
+			Integer[] out = new Integer[2];
+			System.out.print("drainTo() should remove 7 and 8 ....");
+			if( B.drainTo(out) == 2 && out[0] == 7 && out[1] == 8 && B.count() == 1 ) System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+		}
+		catch( InterruptedException e ) {
+			System.out.println("ERROR: unexpected exception: " + e);
+		}
+	}
+}
@@ -0,0 +1,641 @@
+/* ChunkedArrayedList280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.*;
+
+/**
+ * An arrayed list stored in fixed-size chunks instead of one array, so that it
+ * can hold more than 2^31 elements and never has to copy its elements to grow.
+ *
+ * The chunks are kept in a circular directory, first chunk first.  Element i of
+ * the list is at offset firstOffset + i counted across the chunks, so locating it
+ * takes a shift and a mask.  A chunk is allocated when an insertion at either end
+ * runs past the chunks there, and released as soon as deletions at either end
+ * leave it empty, so insertions and deletions at both ends are O(1) and every
+ * chunk holds at least one element.  Only the directory, which holds one
+ * reference per chunk, is ever copied when the list grows.
+ *
+ * Indices, positions and the count are longs.  The cursor is kept as the index of
+ * the current element.
+ *
+ * @param <I> Type of the items in the list.
+ */
+public class ChunkedArrayedList280<I> implements SimpleList280<I> {
+
+	/**
+	 * Number of elements per chunk when none is given.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+	/**
+	 * Circular directory of chunks.  Its length is a power of two.
+	 */
+	protected I[][] chunks;
+
+	/**
+	 * Directory slot of the first chunk.
+	 */
+	protected int firstChunk;
+
+	/**
+	 * Number of chunks in use.
+	 */
+	protected int numChunks;
+
+	/**
+	 * log2 of the number of elements per chunk.
+	 */
+	protected int chunkShift;
+
+	/**
+	 * Number of elements per chunk, minus 1.
+	 */
+	protected int chunkMask;
+
+	/**
+	 * Offset of the first element in the first chunk.
+	 */
+	protected int firstOffset;
+
+	/**
+	 * Number of elements in the list.
+	 */
+	protected long numEl;
+
+	/**
+	 * Index of the element at the cursor, or ArrayedListIterator280.beforePos or afterPos.
+	 */
+	protected long position;
+
+	/**
+	 * Do searches continue or start anew?
+	 */
+	protected boolean continueSearch;
+
+
+	/**
+	 * Create a new, empty list with chunks of DEFAULT_CHUNK_SIZE elements.
+	 */
+	public ChunkedArrayedList280() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Create a new, empty list.
+	 * @param chunkSize Number of elements per chunk; must be a power of two.
+	 * @throws InvalidArgument280Exception if chunkSize is not a positive power of two.
+	 */
+	@SuppressWarnings("unchecked")
+	public ChunkedArrayedList280(int chunkSize) throws InvalidArgument280Exception {
+		if( chunkSize <= 0 || (chunkSize & (chunkSize - 1)) != 0 )
+			throw new InvalidArgument280Exception("Chunk size must be a positive power of two.");
+		this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+		this.chunkMask = chunkSize - 1;
+		this.chunks = (I[][]) new Object[8][];
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	/**
+	 * Number of elements per chunk.
+	 */
+	public int chunkSize() {
+		return this.chunkMask + 1;
+	}
+
+	/**
+	 * The chunk holding the element at offset g, counted from the start of the first chunk.
+	 */
+	private I[] chunkAt(long g) {
+		return this.chunks[(this.firstChunk + (int) (g >>> this.chunkShift)) & (this.chunks.length - 1)];
+	}
+
+	/**
+	 * The element at index idx, without bounds checking.
+	 */
+	protected I itemAt(long idx) {
+		long g = this.firstOffset + idx;
+		return this.chunkAt(g)[(int) g & this.chunkMask];
+	}
+
+	/**
+	 * Store x at index idx, without bounds checking.
+	 */
+	protected void setItemAt(long idx, I x) {
+		long g = this.firstOffset + idx;
+		this.chunkAt(g)[(int) g & this.chunkMask] = x;
+	}
+
+	/**
+	 * Make room in the directory for one more chunk by doubling it.  Only chunk
+	 * references are copied.
+	 */
+	@SuppressWarnings("unchecked")
+	private void growDirectory() {
+		if( this.numChunks < this.chunks.length ) return;
+		I[][] bigger = (I[][]) new Object[this.chunks.length * 2][];
+		int first = this.chunks.length - this.firstChunk;
+		System.arraycopy(this.chunks, this.firstChunk, bigger, 0, first);
+		System.arraycopy(this.chunks, 0, bigger, first, this.firstChunk);
+		this.chunks = bigger;
+		this.firstChunk = 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addChunkFirst() {
+		this.growDirectory();
+		this.firstChunk = (this.firstChunk - 1) & (this.chunks.length - 1);
+		this.chunks[this.firstChunk] = (I[]) new Object[this.chunkMask + 1];
+		this.numChunks++;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addChunkLast() {
+		this.growDirectory();
+		this.chunks[(this.firstChunk + this.numChunks) & (this.chunks.length - 1)] = (I[]) new Object[this.chunkMask + 1];
+		this.numChunks++;
+	}
+
+	private void dropChunkFirst() {
+		this.chunks[this.firstChunk] = null;
+		this.firstChunk = (this.firstChunk + 1) & (this.chunks.length - 1);
+		this.numChunks--;
+	}
+
+	private void dropChunkLast() {
+		this.chunks[(this.firstChunk + this.numChunks - 1) & (this.chunks.length - 1)] = null;
+		this.numChunks--;
+	}
+
+	@Override
+	public void insertFirst(I x) {
+		if( this.firstOffset == 0 ) {
+			this.addChunkFirst();
+			this.firstOffset = this.chunkMask + 1;
+		}
+		this.firstOffset--;
+		this.chunks[this.firstChunk][this.firstOffset] = x;
+		this.numEl++;
+		if( this.position >= 0 ) this.position++;
+	}
+
+	@Override
+	public void insertLast(I x) {
+		long g = this.firstOffset + this.numEl;
+		if( g == (long) this.numChunks << this.chunkShift ) this.addChunkLast();
+		this.chunkAt(g)[(int) g & this.chunkMask] = x;
+		this.numEl++;
+	}
+
+	/**
+	 * Delete the first element.  If the cursor was on it, it moves to the new first
+	 * element; if the list becomes empty, it moves to before().
+	 */
+	@Override
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+
+		this.chunks[this.firstChunk][this.firstOffset] = null;
+		this.firstOffset++;
+		this.numEl--;
+		if( this.numEl == 0 || this.firstOffset == this.chunkMask + 1 ) {
+			this.dropChunkFirst();
+			this.firstOffset = 0;
+		}
+
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else if( this.position > 0 ) this.position--;
+	}
+
+	/**
+	 * Delete the last element.  If the cursor was on it, it moves to the new last
+	 * element; if the list becomes empty, it moves to before().
+	 */
+	@Override
+	public void deleteLast() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+
+		long g = this.firstOffset + this.numEl - 1;
+		this.chunkAt(g)[(int) g & this.chunkMask] = null;
+		this.numEl--;
+		if( this.numEl == 0 || ((int) g & this.chunkMask) == 0 ) this.dropChunkLast();
+		if( this.numEl == 0 ) this.firstOffset = 0;
+
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else if( this.position == this.numEl ) this.position--;
+	}
+
+	/**
+	 * Delete the first n elements.  Chunks that hold only deleted elements are
+	 * released without visiting their elements.  If the cursor was on a deleted
+	 * element, it moves to the new first element.
+	 * @param n Number of elements to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 * @timing O(n / chunk size + chunk size)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == this.numEl ) {
+			this.clear();
+			return;
+		}
+
+		long end = this.firstOffset + (long) n;
+		long whole = end >>> this.chunkShift;
+		for(long c = 0; c < whole; c++) this.dropChunkFirst();
+		int offset = (int) end & this.chunkMask;
+		java.util.Arrays.fill(this.chunks[this.firstChunk], whole == 0 ? this.firstOffset : 0, offset, null);
+		this.firstOffset = offset;
+		this.numEl -= n;
+
+		if( this.position >= 0 ) this.position = Math.max(this.position - n, 0);
+	}
+
+	/**
+	 * Delete the last n elements.  Chunks that hold only deleted elements are
+	 * released without visiting their elements.  If the cursor was on a deleted
+	 * element, it moves to the new last element.
+	 * @param n Number of elements to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 * @timing O(n / chunk size + chunk size)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == this.numEl ) {
+			this.clear();
+			return;
+		}
+
+		this.numEl -= n;
+		long end = this.firstOffset + this.numEl;
+		long keep = (end + this.chunkMask) >>> this.chunkShift;
+		while( this.numChunks > keep ) this.dropChunkLast();
+		int offset = (int) end & this.chunkMask;
+		if( offset != 0 ) java.util.Arrays.fill(this.chunkAt(end - 1), offset, this.chunkMask + 1, null);
+
+		if( this.position >= this.numEl ) this.position = this.numEl - 1;
+	}
+
+	@Override
+	public I firstItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot get first item of an empty list.");
+		return this.chunks[this.firstChunk][this.firstOffset];
+	}
+
+	@Override
+	public I lastItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot get last item of an empty list.");
+		return this.itemAt(this.numEl - 1);
+	}
+
+	/**
+	 * Obtain the item at position idx in the list. The first element is at index 0.
+	 * @param idx - index (position) of the desired list element
+	 * @return the element at index idx in the list.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 * @timing O(1)
+	 */
+	public I getItemAtIndex(long idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("Index " + idx + " is out of range for a list of " + this.numEl + " elements.");
+		return this.itemAt(idx);
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no item at the cursor to obtain.");
+		return this.itemAt(this.position);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position >= 0;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot move to the first item of an empty list.");
+		this.position = 0;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception("Cannot advance the cursor past the end.");
+		this.position = this.position == ArrayedListIterator280.beforePos ? 0 : this.position + 1;
+		if( this.position >= this.numEl ) this.position = ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public CursorPosition280 currentPosition() {
+		return new ChunkedArrayedListIterator280<I>(this, this.position);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void goPosition(CursorPosition280 c) throws IllegalArgumentException {
+		if( !(c instanceof ChunkedArrayedListIterator280) )
+			throw new IllegalArgumentException("Argument is not a ChunkedArrayedListIterator280.");
+		ChunkedArrayedListIterator280<I> iter = (ChunkedArrayedListIterator280<I>) c;
+		if( iter.list != this || iter.position >= this.numEl )
+			throw new IllegalArgumentException("Iterator position is not in this list.");
+		this.position = iter.position;
+	}
+
+	/**
+	 * Index of the first element equal to y, or -1 if there is none.  Does not move the cursor.
+	 */
+	protected long indexOf(I y) {
+		for(long i = 0; i < this.numEl; i++)
+			if( this.membershipEquals(y, this.itemAt(i)) ) return i;
+		return -1;
+	}
+
+	@Override
+	public boolean has(I y) {
+		return this.indexOf(y) >= 0;
+	}
+
+	@Override
+	public I obtain(I y) throws ItemNotFound280Exception {
+		long i = this.indexOf(y);
+		if( i < 0 ) throw new ItemNotFound280Exception();
+		return this.itemAt(i);
+	}
+
+	@Override
+	public void insert(I x) {
+		this.insertFirst(x);
+	}
+
+	/**
+	 * Delete the first occurrence of x from the list.  The cursor stays on the
+	 * element it was on, or moves to the next element if that element was deleted.
+	 */
+	@Override
+	public void delete(I x) throws ItemNotFound280Exception, ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
+		long found = this.indexOf(x);
+		if( found < 0 ) throw new ItemNotFound280Exception();
+
+		long savePosition = this.position;
+		this.position = found;
+		this.deleteItem();
+		if( savePosition < 0 ) this.position = savePosition;
+		else if( savePosition > found ) this.position = savePosition - 1;
+		else if( savePosition < found ) this.position = savePosition;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean membershipEquals(I x, I y) {
+		if ((x instanceof Comparable) && (y instanceof Comparable))
+			return  0==((Comparable<I>)x).compareTo(y);
+		else return x.equals(y);
+	}
+
+	/**
+	 * Delete the item at the cursor by moving the elements before or after it,
+	 * whichever are fewer, one place toward it.  The cursor moves to the next
+	 * element, or to after() if the last element was deleted.
+	 * @timing O(min(k, n-k)) to delete the element at index k.
+	 */
+	@Override
+	public void deleteItem() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no item at the cursor to delete.");
+
+		long k = this.position;
+		if( k < this.numEl - 1 - k ) {
+			for(long i = k; i > 0; i--) this.setItemAt(i, this.itemAt(i - 1));
+			this.deleteFirst();
+		}
+		else {
+			for(long i = k; i < this.numEl - 1; i++) this.setItemAt(i, this.itemAt(i + 1));
+			this.deleteLast();
+		}
+
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else if( k == this.numEl ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = k;
+	}
+
+	@Override
+	public void restartSearches() {
+		this.continueSearch = false;
+	}
+
+	@Override
+	public void resumeSearches() {
+		this.continueSearch = true;
+	}
+
+	@Override
+	public void search(I x) {
+		if( this.isEmpty() ) {
+			this.goAfter();
+			return;
+		}
+		if( !this.continueSearch ) this.goFirst();
+		else if( !this.after() ) this.goForth();
+
+		while( !this.after() && !this.membershipEquals(x, this.item()) )
+			this.goForth();
+	}
+
+	/**
+	 * Remove every element and release every chunk.
+	 */
+	@Override
+	public void clear() {
+		for(int c = 0; c < this.numChunks; c++)
+			this.chunks[(this.firstChunk + c) & (this.chunks.length - 1)] = null;
+		this.numChunks = 0;
+		this.firstChunk = 0;
+		this.firstOffset = 0;
+		this.numEl = 0;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.numEl == 0;
+	}
+
+	/**
+	 * A chunked list is never full.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	/**
+	 * Obtain the number of elements in the list.
+	 *
+	 * @return The number of elements in the list.
+	 */
+	public long count() {
+		return this.numEl;
+	}
+
+	/**
+	 * Number of chunks currently allocated.
+	 */
+	public int chunkCount() {
+		return this.numChunks;
+	}
+
+	/**
+	 * A clone of this list with its own chunks.  The items themselves are shared.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public ChunkedArrayedList280<I> clone() throws CloneNotSupportedException {
+		ChunkedArrayedList280<I> c = (ChunkedArrayedList280<I>) super.clone();
+		c.chunks = this.chunks.clone();
+		for(int i = 0; i < c.chunks.length; i++)
+			if( c.chunks[i] != null ) c.chunks[i] = c.chunks[i].clone();
+		return c;
+	}
+
+	@Override
+	public String toString() {
+		if( this.isEmpty() ) return "<Empty>";
+
+		StringBuilder result = new StringBuilder();
+		for(long i = 0; i < this.numEl; i++)
+			result.append(this.itemAt(i)).append(", ");
+		return result.toString();
+	}
+
+	public ChunkedArrayedListIterator280<I> iterator() {
+		return new ChunkedArrayedListIterator280<I>(this, ArrayedListIterator280.beforePos);
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		ChunkedArrayedList280<Integer> L = new ChunkedArrayedList280<Integer>(4);
+
+		for(int i = 5; i <= 14; i++) L.insertLast(i);
+		for(int i = 4; i >= 1; i--) L.insertFirst(i);
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("getItemAtIndex(9) should be 10 ....");
+		if( L.getItemAtIndex(9L) == 10 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.print("14 elements should fill 4 chunks of 4 ....");
+		if( L.count() == 14 && L.chunkCount() == 4 ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+
+		L.search(6);
+		for(int i = 0; i < 4; i++) L.deleteFirst();
+		for(int i = 0; i < 4; i++) L.deleteLast();
+		System.out.println("List should be: 5, 6, 7, 8, 9, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("chunks emptied at either end should be released ....");
+		if( L.chunkCount() == 2 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+		System.out.print("cursor should still be at 6 ....");
+		if( L.item() == 6 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.delete(8);
+		L.deleteItem();
+		System.out.println("List should be: 5, 7, 9, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should be at 7 ....");
+		if( L.item() == 7 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.print("has(9) should be true and has(8) should be false ....");
+		if( L.has(9) && !L.has(8) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		System.out.println("Getting an element past the end.");
+		try {
+			L.getItemAtIndex(4L);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		while( !L.isEmpty() ) L.deleteLast();
+		System.out.print("an empty list should hold no chunks ....");
+		if( L.chunkCount() == 0 && L.before() ) System.out.println("and it does not.  OK!");
+		else System.out.println("and it does.  ERROR!");
+
+		// Compare against java.util.ArrayDeque.
+		java.util.ArrayDeque<Integer> ref = new java.util.ArrayDeque<Integer>();
+		java.util.Random r = new java.util.Random(280);
+		boolean ok = true;
+		for(int i = 0; i < 20000; i++) {
+			int op = r.nextInt(4);
+			if( op == 0 ) { L.insertFirst(i); ref.addFirst(i); }
+			else if( op == 1 ) { L.insertLast(i); ref.addLast(i); }
+			else if( op == 2 && !ref.isEmpty() ) { L.deleteFirst(); ref.removeFirst(); }
+			else if( op == 3 && !ref.isEmpty() ) { L.deleteLast(); ref.removeLast(); }
+			if( L.count() != ref.size() || (!ref.isEmpty() && (!L.firstItem().equals(ref.peekFirst()) || !L.lastItem().equals(ref.peekLast()))) )
+				ok = false;
+			if( L.chunkCount() > (L.count() + 2 * 3) / 4 + 1 ) ok = false;
+		}
+		long idx = 0;
+		for(Integer x : ref) if( !L.getItemAtIndex(idx++).equals(x) ) ok = false;
+		System.out.print("random operations should match ArrayDeque ....");
+		if( ok ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+
+		// Test batch deletion.
+		L.clear();
+		for(int i = 0; i < 30; i++) L.insertLast(i);
+		L.deleteFirst(9);
+		L.deleteLast(10);
+		System.out.print("deleting 9 from the front and 10 from the back should leave 9..19 in 3 chunks ....");
+		if( L.count() == 11 && L.firstItem() == 9 && L.lastItem() == 19 && L.chunkCount() == 3 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		System.out.println("Deleting more items than the list holds.");
+		try {
+			L.deleteLast(12);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+	}
+}
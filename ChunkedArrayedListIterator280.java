@@ -0,0 +1,80 @@
+package lib280.list;
+
+import lib280.base.LinearIterator280;
+import lib280.exception.AfterTheEnd280Exception;
+import lib280.exception.NoCurrentItem280Exception;
+
+/**
+ * An iterator over a ChunkedArrayedList280.  Its position is the index of the
+ * current element, so it reads the list's chunks directly.
+ */
+public class ChunkedArrayedListIterator280<I> implements LinearIterator280<I> {
+
+	/**
+	 * The list being iterated over.
+	 */
+	protected ChunkedArrayedList280<I> list;
+
+	/**
+	 * Index of the current element, or ArrayedListIterator280.beforePos or afterPos.
+	 */
+	protected long position;
+
+	/**
+	 * Initialize an iterator.
+	 * @param list The list to iterate over.
+	 * @param position Index of the starting element, or ArrayedListIterator280.beforePos or afterPos.
+	 */
+	public ChunkedArrayedListIterator280(ChunkedArrayedList280<I> list, long position) {
+		this.list = list;
+		this.position = position;
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !itemExists() ) throw new NoCurrentItem280Exception();
+
+		return this.list.itemAt(this.position);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position >= 0 && this.position < this.list.numEl;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception();
+		this.position = this.before() ? 0 : this.position + 1;
+		if( this.position >= this.list.numEl ) this.position = ArrayedListIterator280.afterPos;
+	}
+
+	/**
+	 * Go to the first element, or to after() if the list is empty.
+	 */
+	@Override
+	public void goFirst() {
+		if( this.list.numEl == 0 ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = 0;
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+}
@@ -0,0 +1,43 @@
+package lib280.list;
+
+import lib280.exception.NoCurrentItem280Exception;
+
+/**
+ * An iterator over an DoubleArrayedList280.  Like ArrayedListIterator280, it walks
+ * the circular array from head toward tail, but item() returns an unboxed double.
+ */
+public class DoubleArrayedListIterator280 extends PrimitiveArrayedListIterator280 {
+
+	/**
+	 * Array where the elements are stored.
+	 */
+	protected double[] listElements;
+
+	/**
+	 * Initialize an iterator.
+	 * @param elements The elements in the list.
+	 * @param head The index of the current head of the list.
+	 * @param tail The index of the current tail of the list.
+	 * @param numEl The number of elements in the list.
+	 */
+	public DoubleArrayedListIterator280(double[] elements, int head, int tail, int numEl) {
+		super(head, tail, elements.length, numEl);
+		this.listElements = elements;
+	}
+
+	/**
+	 * Returns the element at the iterator's position.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no current item.
+	 */
+	public double item() throws NoCurrentItem280Exception {
+		if( !itemExists() ) throw new NoCurrentItem280Exception();
+
+		return this.listElements[this.position];
+	}
+
+	@Override
+	public DoubleArrayedListIterator280 clone() {
+		return (DoubleArrayedListIterator280) super.clone();
+	}
+}
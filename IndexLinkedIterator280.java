@@ -0,0 +1,113 @@
+package lib280.list;
+
+import lib280.base.LinearIterator280;
+import lib280.exception.AfterTheEnd280Exception;
+import lib280.exception.ContainerEmpty280Exception;
+import lib280.exception.NoCurrentItem280Exception;
+
+/**
+ * An iterator over an IndexLinkedList280.  Its position is the slot of the
+ * current item, and it follows the list's next[] array from slot to slot.
+ */
+public class IndexLinkedIterator280<I> implements LinearIterator280<I> {
+
+	/**
+	 * The list being iterated over.
+	 */
+	protected IndexLinkedList280<I> list;
+
+	/**
+	 * Slot of the current item, or IndexLinkedList280.NIL if there is no current item.
+	 */
+	protected int cur;
+
+	/**
+	 * Whether the iterator is after the end when cur is NIL.
+	 */
+	protected boolean pastEnd;
+
+	/**
+	 * Create a new iterator at the first item of list, or after() if it is empty.
+	 * @param list The list to iterate over.
+	 */
+	public IndexLinkedIterator280(IndexLinkedList280<I> list) {
+		this(list, list.head, list.head == IndexLinkedList280.NIL);
+	}
+
+	/**
+	 * Create a new iterator at a specific position in list.
+	 * @param list The list to iterate over.
+	 * @param cur Slot of the current item, or IndexLinkedList280.NIL.
+	 * @param pastEnd Whether the iterator is after the end when cur is NIL.
+	 */
+	public IndexLinkedIterator280(IndexLinkedList280<I> list, int cur, boolean pastEnd) {
+		this.list = list;
+		this.cur = cur;
+		this.pastEnd = pastEnd;
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("A current item must exist.");
+		return this.list.itemAt(this.cur);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.cur != IndexLinkedList280.NIL;
+	}
+
+	@Override
+	public boolean before() {
+		return this.cur == IndexLinkedList280.NIL && (!this.pastEnd || this.list.isEmpty());
+	}
+
+	@Override
+	public boolean after() {
+		return this.cur == IndexLinkedList280.NIL && (this.pastEnd || this.list.isEmpty());
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( this.list.isEmpty() ) throw new ContainerEmpty280Exception("Cannot move to first element of an empty list.");
+		this.cur = this.list.head;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception("Cannot advance to next item when already after.");
+		if( this.before() ) this.goFirst();
+		else {
+			this.cur = this.list.next[this.cur];
+			this.pastEnd = this.cur == IndexLinkedList280.NIL;
+		}
+	}
+
+	@Override
+	public void goBefore() {
+		this.cur = IndexLinkedList280.NIL;
+		this.pastEnd = false;
+	}
+
+	@Override
+	public void goAfter() {
+		this.cur = IndexLinkedList280.NIL;
+		this.pastEnd = true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean equals(Object other) {
+		if( other instanceof IndexLinkedIterator280 ) {
+			IndexLinkedIterator280<I> otherIter = (IndexLinkedIterator280<I>) other;
+			return otherIter.list == this.list && otherIter.cur == this.cur
+					&& (this.cur != IndexLinkedList280.NIL || otherIter.pastEnd == this.pastEnd);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.cur == IndexLinkedList280.NIL ? (this.pastEnd ? -1 : -2) : this.cur;
+	}
+}
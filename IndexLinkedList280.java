@@ -0,0 +1,768 @@
+package lib280.list;
+
+import java.util.Arrays;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.*;
+
+/**
+ * A doubly-linked list whose nodes are slots in parallel arrays rather than
+ * node objects: slot s holds an item in items[s] and the slots of its neighbours
+ * in next[s] and prev[s].  The list costs three array entries per item and no
+ * object per item, so the garbage collector has only the three arrays to trace
+ * however long the list grows.
+ *
+ * Slots freed by deletions are chained through next[] into a free list and
+ * reused by later insertions.  The arrays double when they run out of slots.
+ * compact() renumbers the slots in list order and trims the arrays to the
+ * length of the list.
+ *
+ * The cursor behaves as in BilinkedList280.  Insertion and deletion at the
+ * cursor and at either end are O(1), amortized over the growth of the arrays.
+ * A position saved with currentPosition() refers to a slot, so it is only valid
+ * until its item is deleted or the list is compacted.
+ */
+public class IndexLinkedList280<I> implements SimpleList280<I> {
+
+	/**
+	 * Slot number meaning "no slot", used as a null link.
+	 */
+	public static final int NIL = -1;
+
+	/**
+	 * Value of prev[s] for a free slot s.  It cannot be NIL, which marks the first item.
+	 */
+	protected static final int FREE = -2;
+
+	/**
+	 * Number of slots in the arrays when no capacity is given.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Item in each slot.  Free slots hold null, but so may slots in use, since
+	 * null is a legal item; prev[] tells the two apart.
+	 */
+	protected Object[] items;
+
+	/**
+	 * Slot of the next item for each slot in use, or the next free slot for each free slot.
+	 */
+	protected int[] next;
+
+	/**
+	 * Slot of the previous item for each slot in use, or FREE for each free slot.
+	 */
+	protected int[] prev;
+
+	/**
+	 * Slot of the first item, or NIL if the list is empty.
+	 */
+	protected int head;
+
+	/**
+	 * Slot of the last item, or NIL if the list is empty.
+	 */
+	protected int tail;
+
+	/**
+	 * First slot of the free list, or NIL if no freed slots are waiting to be reused.
+	 */
+	protected int freeHead;
+
+	/**
+	 * Slots from top on have never been used.
+	 */
+	protected int top;
+
+	/**
+	 * Number of elements in the list.
+	 */
+	protected int numEl;
+
+	/**
+	 * Slot of the item at the cursor, or NIL if the cursor is before() or after().
+	 */
+	protected int position;
+
+	/**
+	 * Whether the cursor is after() rather than before() when position is NIL.
+	 */
+	protected boolean pastEnd;
+
+	/**
+	 * Do searches continue or start anew?
+	 */
+	protected boolean continueSearch;
+
+
+	/**
+	 * Create a new, empty list with room for DEFAULT_CAPACITY items before the arrays grow.
+	 */
+	public IndexLinkedList280() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new, empty list.
+	 * @param capacity Number of items the list can hold before the arrays grow.
+	 * @throws InvalidArgument280Exception if capacity is less than 1.
+	 */
+	public IndexLinkedList280(int capacity) throws InvalidArgument280Exception {
+		if( capacity < 1 ) throw new InvalidArgument280Exception("Capacity must be at least 1.");
+		this.items = new Object[capacity];
+		this.next = new int[capacity];
+		this.prev = new int[capacity];
+		this.head = NIL;
+		this.tail = NIL;
+		this.freeHead = NIL;
+		this.position = NIL;
+	}
+
+	/**
+	 * Number of slots in the arrays.
+	 */
+	public int capacity() {
+		return this.items.length;
+	}
+
+	/**
+	 * The item in slot s.
+	 */
+	@SuppressWarnings("unchecked")
+	protected I itemAt(int s) {
+		return (I) this.items[s];
+	}
+
+	/**
+	 * Take a free slot, growing the arrays if there is none, and store x in it.
+	 * @return the slot holding x.
+	 * @timing O(1) amortized
+	 */
+	protected int allocate(I x) {
+		int s;
+		if( this.freeHead != NIL ) {
+			s = this.freeHead;
+			this.freeHead = this.next[s];
+		}
+		else {
+			if( this.top == this.items.length ) this.resize(Math.max(4, this.items.length * 2));
+			s = this.top++;
+		}
+		this.items[s] = x;
+		return s;
+	}
+
+	/**
+	 * Put slot s on the free list.
+	 */
+	protected void release(int s) {
+		this.items[s] = null;
+		this.prev[s] = FREE;
+		this.next[s] = this.freeHead;
+		this.freeHead = s;
+	}
+
+	/**
+	 * Copy the arrays into new arrays with the given number of slots.
+	 * @precond newCapacity >= top
+	 */
+	protected void resize(int newCapacity) {
+		this.items = Arrays.copyOf(this.items, newCapacity);
+		this.next = Arrays.copyOf(this.next, newCapacity);
+		this.prev = Arrays.copyOf(this.prev, newCapacity);
+	}
+
+	/**
+	 * Link slot s into the list before slot succ, or at the end if succ is NIL.
+	 * If the list was empty, the cursor ends up before().
+	 */
+	protected void linkBefore(int succ, int s) {
+		if( this.isEmpty() ) this.pastEnd = false;
+		int pred = succ == NIL ? this.tail : this.prev[succ];
+		this.next[s] = succ;
+		this.prev[s] = pred;
+		if( pred == NIL ) this.head = s;
+		else this.next[pred] = s;
+		if( succ == NIL ) this.tail = s;
+		else this.prev[succ] = s;
+		this.numEl++;
+	}
+
+	/**
+	 * Unlink slot s from the list and free it.  The cursor must not be on s.
+	 */
+	protected void unlink(int s) {
+		int pred = this.prev[s];
+		int succ = this.next[s];
+		if( pred == NIL ) this.head = succ;
+		else this.next[pred] = succ;
+		if( succ == NIL ) this.tail = pred;
+		else this.prev[succ] = pred;
+		this.release(s);
+		this.numEl--;
+		if( this.numEl == 0 ) this.pastEnd = false;
+	}
+
+	/**
+	 * Renumber the slots in list order, so that the item at index i is in slot i,
+	 * and trim the arrays to the length of the list.  Walking the list afterwards
+	 * reads the arrays in order.  The cursor stays on its item, but positions saved
+	 * with currentPosition() are no longer valid.
+	 * @timing O(n)
+	 */
+	public void compact() {
+		int newCapacity = Math.max(this.numEl, 1);
+		Object[] newItems = new Object[newCapacity];
+		int[] newNext = new int[newCapacity];
+		int[] newPrev = new int[newCapacity];
+
+		int newPosition = NIL;
+		int i = 0;
+		for(int s = this.head; s != NIL; s = this.next[s], i++) {
+			newItems[i] = this.items[s];
+			newNext[i] = i + 1;
+			newPrev[i] = i - 1;
+			if( s == this.position ) newPosition = i;
+		}
+		if( i > 0 ) newNext[i - 1] = NIL;
+
+		this.items = newItems;
+		this.next = newNext;
+		this.prev = newPrev;
+		this.head = i > 0 ? 0 : NIL;
+		this.tail = i - 1;
+		this.freeHead = NIL;
+		this.top = i;
+		this.position = newPosition;
+	}
+
+	@Override
+	public void insertFirst(I x) throws ContainerFull280Exception {
+		this.linkBefore(this.head, this.allocate(x));
+	}
+
+	@Override
+	public void insertLast(I x) throws ContainerFull280Exception {
+		this.linkBefore(NIL, this.allocate(x));
+	}
+
+	@Override
+	public void insert(I x) throws ContainerFull280Exception {
+		this.insertFirst(x);
+	}
+
+	/**
+	 * Insert an element before the current cursor position.  The cursor stays on
+	 * the same item.
+	 * @param x - Element to be inserted.
+	 * @precond !before()
+	 * @throws InvalidState280Exception if the cursor is before().
+	 * @timing O(1) amortized
+	 */
+	public void insertBefore(I x) throws InvalidState280Exception {
+		if( this.before() ) throw new InvalidState280Exception("Cannot insertBefore() when the cursor is already before the first element.");
+		this.linkBefore(this.position, this.allocate(x));
+	}
+
+	@Override
+	public I firstItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot obtain beginning of an empty list.");
+		return this.itemAt(this.head);
+	}
+
+	@Override
+	public I lastItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot obtain item at the end of an empty list.");
+		return this.itemAt(this.tail);
+	}
+
+	/**
+	 * Obtain the item at position idx in the list. The first element is at index 0.
+	 * Walks from whichever end is closer.
+	 * @param idx - index (position) of the desired list element
+	 * @return the element at index idx in the list.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 * @timing O(n)
+	 */
+	public I getItemAtIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		int s;
+		if( idx < this.numEl / 2 ) {
+			s = this.head;
+			for(int i = 0; i < idx; i++) s = this.next[s];
+		}
+		else {
+			s = this.tail;
+			for(int i = this.numEl - 1; i > idx; i--) s = this.prev[s];
+		}
+		return this.itemAt(s);
+	}
+
+	/**
+	 * Delete the first item.  If the cursor was on it, it moves to the new first item.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+		if( this.position == this.head ) this.position = this.next[this.head];
+		this.unlink(this.head);
+	}
+
+	/**
+	 * Delete the last item.  If the cursor was on it, it moves to the new last item.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteLast() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+		if( this.position == this.tail ) this.position = this.prev[this.tail];
+		this.unlink(this.tail);
+	}
+
+	/**
+	 * Delete the first n items.  If the cursor was on a deleted item, it moves to
+	 * the new first item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		for(int i = 0; i < n; i++) this.deleteFirst();
+	}
+
+	/**
+	 * Delete the last n items.  If the cursor was on a deleted item, it moves to
+	 * the new last item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		for(int i = 0; i < n; i++) this.deleteLast();
+	}
+
+	/**
+	 * Delete the item at the cursor.  The cursor moves to the next item, or to
+	 * after() if the last item was deleted.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteItem() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no item at the cursor to delete.");
+		int s = this.position;
+		this.position = this.next[s];
+		this.pastEnd = this.position == NIL;
+		this.unlink(s);
+	}
+
+	/**
+	 * Delete the first occurrence of x from the list.  The cursor stays on the item
+	 * it was on, or moves to the next item if that item was deleted.
+	 */
+	@Override
+	public void delete(I x) throws ItemNotFound280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
+		int s = this.slotOf(x);
+		if( s == NIL ) throw new ItemNotFound280Exception("Item to be deleted wasn't in the list.");
+		if( s == this.position ) {
+			this.position = this.next[s];
+			this.pastEnd = this.position == NIL;
+		}
+		this.unlink(s);
+	}
+
+	/**
+	 * Slot of the first item equal to y, or NIL if there is none.  Does not move the cursor.
+	 */
+	protected int slotOf(I y) {
+		for(int s = this.head; s != NIL; s = this.next[s])
+			if( this.membershipEquals(y, this.itemAt(s)) ) return s;
+		return NIL;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean membershipEquals(I x, I y) {
+		if ((x instanceof Comparable) && (y instanceof Comparable))
+			return  0==((Comparable<I>)x).compareTo(y);
+		else return x.equals(y);
+	}
+
+	@Override
+	public boolean has(I y) {
+		return this.slotOf(y) != NIL;
+	}
+
+	@Override
+	public I obtain(I y) throws ItemNotFound280Exception {
+		int s = this.slotOf(y);
+		if( s == NIL ) throw new ItemNotFound280Exception("Can't obtain and item that is not in the list.");
+		return this.itemAt(s);
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no current item to obtain.");
+		return this.itemAt(this.position);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position != NIL;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == NIL && (!this.pastEnd || this.isEmpty());
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == NIL && (this.pastEnd || this.isEmpty());
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot position cursor at first element of an empty list.");
+		this.position = this.head;
+	}
+
+	/**
+	 * Go to the last item, or to before() if the list is empty.
+	 * @timing O(1)
+	 */
+	public void goLast() {
+		if( this.isEmpty() ) this.goBefore();
+		else this.position = this.tail;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception("Cannot advance to next item when already after the end.");
+		if( this.before() ) this.goFirst();
+		else {
+			this.position = this.next[this.position];
+			this.pastEnd = this.position == NIL;
+		}
+	}
+
+	/**
+	 * Move back one item.  From the first item the cursor goes to before(), and
+	 * from after() it goes to the last item.
+	 * @throws BeforeTheStart280Exception if the cursor is already before().
+	 * @timing O(1)
+	 */
+	public void goBack() throws BeforeTheStart280Exception {
+		if( this.before() ) throw new BeforeTheStart280Exception("Cannot go back further.");
+		if( this.after() ) this.position = this.tail;
+		else this.position = this.prev[this.position];
+		this.pastEnd = false;
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = NIL;
+		this.pastEnd = false;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = NIL;
+		this.pastEnd = true;
+	}
+
+	@Override
+	public void restartSearches() {
+		this.continueSearch = false;
+	}
+
+	@Override
+	public void resumeSearches() {
+		this.continueSearch = true;
+	}
+
+	@Override
+	public void search(I x) {
+		if( this.isEmpty() ) {
+			this.goAfter();
+			return;
+		}
+
+		int s = this.head;
+		if( this.continueSearch ) {
+			if( this.after() ) return;
+			if( this.itemExists() ) s = this.next[this.position];
+		}
+
+		while( s != NIL && !this.membershipEquals(x, this.itemAt(s)) )
+			s = this.next[s];
+		if( s == NIL ) this.goAfter();
+		else this.position = s;
+	}
+
+	@Override
+	public CursorPosition280 currentPosition() {
+		return new IndexLinkedIterator280<I>(this, this.position, this.pastEnd);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void goPosition(CursorPosition280 c) {
+		if( !(c instanceof IndexLinkedIterator280) )
+			throw new IllegalArgumentException("Argument is not an IndexLinkedIterator280.");
+		IndexLinkedIterator280<I> iter = (IndexLinkedIterator280<I>) c;
+		if( iter.list != this || (iter.cur != NIL && (iter.cur >= this.top || this.prev[iter.cur] == FREE)) )
+			throw new IllegalArgumentException("Iterator position is not in this list.");
+		this.position = iter.cur;
+		this.pastEnd = iter.pastEnd;
+	}
+
+	/**
+	 * Iterator for list initialized to first item.
+	 * @timing O(1)
+	 */
+	public IndexLinkedIterator280<I> iterator() {
+		return new IndexLinkedIterator280<I>(this);
+	}
+
+	/**
+	 * Remove every element.  The arrays keep their size.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(this.items, 0, this.top, null);
+		this.head = NIL;
+		this.tail = NIL;
+		this.freeHead = NIL;
+		this.top = 0;
+		this.numEl = 0;
+		this.goBefore();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.numEl == 0;
+	}
+
+	/**
+	 * An index-linked list is never full.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	/**
+	 * Obtain the number of elements in the list.
+	 * @return The number of elements in the list.
+	 * @timing O(1)
+	 */
+	public int count() {
+		return this.numEl;
+	}
+
+	/**
+	 * A clone of this list with its own arrays, and its cursor on the same item.
+	 * The items themselves are shared.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public IndexLinkedList280<I> clone() throws CloneNotSupportedException {
+		IndexLinkedList280<I> result = (IndexLinkedList280<I>) super.clone();
+		result.items = this.items.clone();
+		result.next = this.next.clone();
+		result.prev = this.prev.clone();
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		if( this.isEmpty() ) return "<Empty>";
+
+		StringBuilder result = new StringBuilder();
+		for(int s = this.head; s != NIL; s = this.next[s])
+			result.append(this.items[s]).append(", ");
+		return result.toString();
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		IndexLinkedList280<Integer> L = new IndexLinkedList280<Integer>(4);
+
+		System.out.print("A new list should be both before() and after() ....");
+		if( L.before() && L.after() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		for(int i = 5; i <= 10; i++) L.insertLast(i);
+		for(int i = 4; i >= 1; i--) L.insertFirst(i);
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("the arrays should have grown to 16 slots ....");
+		if( L.count() == 10 && L.capacity() == 16 ) System.out.println("and they have.  OK!");
+		else System.out.println("and they have not.  ERROR!");
+
+		System.out.print("getItemAtIndex(2) should be 3 and getItemAtIndex(8) should be 9 ....");
+		if( L.getItemAtIndex(2) == 3 && L.getItemAtIndex(8) == 9 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		L.search(5);
+		L.insertBefore(100);
+		L.deleteItem();
+		System.out.println("List should be: 1, 2, 3, 4, 100, 6, 7, 8, 9, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should be at 6 ....");
+		if( L.item() == 6 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.goBack();
+		L.goBack();
+		System.out.print("goBack() twice should reach 4 ....");
+		if( L.item() == 4 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// Freed slots are reused before the arrays grow again.
+		int capacity = L.capacity();
+		L.delete(100);
+		L.deleteFirst();
+		L.deleteLast();
+		L.insertLast(11);
+		L.insertFirst(0);
+		L.insertBefore(50);
+		System.out.println("List should be: 0, 2, 3, 50, 4, 6, 7, 8, 9, 11, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("freed slots should have been reused ....");
+		if( L.capacity() == capacity && L.top == 11 ) System.out.println("and they were.  OK!");
+		else System.out.println("and they were not.  ERROR!");
+
+		L.compact();
+		System.out.print("compact() should put the items in slots 0 to 9, in order ....");
+		boolean inOrder = L.capacity() == 10 && L.head == 0 && L.tail == 9;
+		for(int s = 0; s < 10; s++)
+			if( L.next[s] != (s == 9 ? NIL : s + 1) || L.prev[s] != s - 1 ) inOrder = false;
+		if( inOrder && L.itemAt(3) == 50 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		System.out.print("cursor should still be at 4 after compact() ....");
+		if( L.item() == 4 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.goLast();
+		L.deleteLast();
+		System.out.print("deleteLast() with the cursor on the last item should move it to 9 ....");
+		if( L.item() == 9 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		L.goForth();
+		L.insertBefore(12);
+		System.out.print("insertBefore() at after() should append and stay after() ....");
+		if( L.after() && L.lastItem() == 12 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		L.goBack();
+		System.out.print("goBack() from after() should reach 12 ....");
+		if( L.item() == 12 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		System.out.print("has(50) should be true and has(100) should be false ....");
+		if( L.has(50) && !L.has(100) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		try {
+			L.delete(100);
+			System.out.println("Deleted an item that is not in the list.  ERROR!");
+		}
+		catch( ItemNotFound280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.search(50);
+		CursorPosition280 p = L.currentPosition();
+		L.goBefore();
+		L.goPosition(p);
+		System.out.print("goPosition() should return the cursor to 50 ....");
+		if( L.item() == 50 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		IndexLinkedList280<Integer> N = new IndexLinkedList280<Integer>();
+		N.insertFirst(null);
+		N.goFirst();
+		N.goPosition(N.currentPosition());
+		System.out.print("goPosition() should accept a position on a null item ....");
+		if( N.itemExists() && N.item() == null ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		CursorPosition280 freed = N.currentPosition();
+		N.deleteItem();
+		System.out.println("Going to the position of a deleted item.");
+		try {
+			N.goPosition(freed);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( IllegalArgumentException e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.deleteFirst(4);
+		L.deleteLast(3);
+		System.out.println("List should be: 4, 6, 7, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should have moved to the new first item, 4 ....");
+		if( L.item() == 4 ) System.out.println("and it has.  OK!");
+		else System.out.println("and it has not.  ERROR!");
+
+		try {
+			IndexLinkedList280<Integer> C = L.clone();
+			C.deleteItem();
+			C.insertLast(8);
+			System.out.print("a clone should have its own arrays and its cursor on 4 ....");
+			if( L.count() == 3 && L.item() == 4 && L.lastItem() == 7 && C.item() == 6 && C.lastItem() == 8 )
+				System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+		}
+		catch( CloneNotSupportedException e ) {
+			System.out.println("Clone not supported.  ERROR!");
+		}
+
+		try {
+			L.deleteLast(4);
+			System.out.println("Deleted more items than the list has.  ERROR!");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.deleteLast(3);
+		System.out.print("deleting every item should leave an empty list ....");
+		if( L.isEmpty() && L.before() && L.after() && L.head == NIL && L.tail == NIL ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		try {
+			L.insertBefore(1);
+			System.out.println("Inserted before the cursor of an empty list.  ERROR!");
+		}
+		catch( InvalidState280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.compact();
+		L.insertLast(1);
+		L.insertLast(2);
+		System.out.print("a compacted empty list should grow again ....");
+		if( L.count() == 2 && L.firstItem() == 1 && L.lastItem() == 2 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+	}
+}
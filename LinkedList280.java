@@ -38,6 +38,50 @@ public class LinkedList280<I> implements SimpleList280<I> {
 	 */
 	protected boolean continueSearch;
 
+	/**
+	 * Number of elements in the list.
+	 */
+	protected int numEl;
+
+	/**
+	 * Skip pointers used by the positional methods, or null until one of them is
+	 * next used, if they have not been built or a change could not be applied to them.
+	 */
+	protected LinkedListCheckpoints280<I> checkpoints;
+
+	/**
+	 * A node whose index is known to be fingerIndex, or null.  It follows the cursor
+	 * as it moves forward from goFirst() and is left by positional lookups on the
+	 * node they find, so indices near it are found by walking from it.
+	 */
+	protected LinkedNode280<I> fingerNode;
+
+	/**
+	 * Index of fingerNode.
+	 */
+	protected int fingerIndex;
+
+	/**
+	 * Deleted nodes kept for reuse by createNewNode(), linked through their next
+	 * references, or null if there are none.
+	 */
+	protected LinkedNode280<I> freeNodes;
+
+	/**
+	 * Number of nodes in freeNodes.
+	 */
+	protected int freeCount;
+
+	/**
+	 * Largest number of deleted nodes to keep for reuse; 0 if nodes are not reused.
+	 */
+	protected int poolCapacity;
+
+	/**
+	 * Number of nodes created while pooling, from the pool and newly allocated.
+	 */
+	protected long poolHits, poolMisses;
+
 	
 	/**
 	 * Create an empty list.
@@ -47,6 +91,7 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		tail = null;
 		position = null;
 		prevPosition = null;
+		numEl = 0;
 	}
 
 
@@ -58,7 +103,115 @@ public class LinkedList280<I> implements SimpleList280<I> {
 	 */
 	protected LinkedNode280<I> createNewNode(I item)
 	{
-		return new LinkedNode280<I>(item);
+		LinkedNode280<I> node = reuseNode(item);
+		return node != null ? node : new LinkedNode280<I>(item);
+	}
+
+
+	/**
+	 * Take a node from the pool of deleted nodes and store item in it.  An
+	 * overriding createNewNode() should call this first, and allocate a node only
+	 * if it returns null.
+	 * @param item - element to store in the node
+	 * @return a recycled node containing item, or null if the pool is empty.
+	 */
+	protected LinkedNode280<I> reuseNode(I item)
+	{
+		if( this.freeNodes == null ) {
+			if( this.poolCapacity > 0 ) this.poolMisses++;
+			return null;
+		}
+		LinkedNode280<I> node = this.freeNodes;
+		this.freeNodes = node.nextNode();
+		this.freeCount--;
+		this.poolHits++;
+		node.setNextNode(null);
+		node.setItem(item);
+		return node;
+	}
+
+
+	/**
+	 * Put a node that has been unlinked from the list into the pool, if pooling is on
+	 * and the pool is not full.  Its item and links are cleared.
+	 * @param node - a node that is no longer in the list
+	 */
+	protected void recycleNode(LinkedNode280<I> node)
+	{
+		if( this.freeCount >= this.poolCapacity ) return;
+		node.setItem(null);
+		node.setNextNode(this.freeNodes);
+		this.freeNodes = node;
+		this.freeCount++;
+	}
+
+
+	/**
+	 * Keep up to capacity deleted nodes for reuse by later insertions, so that a list
+	 * with a steady turnover of items stops allocating nodes.  Setting the capacity
+	 * to 0 turns pooling off and releases the pooled nodes.
+	 * <p>
+	 * A recycled node is reused for a different item, so while pooling is on, no
+	 * cursor position, iterator, node or shallow clone obtained from the list may be
+	 * used after the node it refers to has been deleted.
+	 * @param capacity - largest number of nodes to keep
+	 * @throws InvalidArgument280Exception if capacity is negative.
+	 */
+	public void setNodePoolCapacity(int capacity) throws InvalidArgument280Exception
+	{
+		if( capacity < 0 ) throw new InvalidArgument280Exception("The node pool capacity cannot be negative.");
+		this.poolCapacity = capacity;
+		while( this.freeCount > capacity ) {
+			this.freeNodes = this.freeNodes.nextNode();
+			this.freeCount--;
+		}
+	}
+
+
+	/**
+	 * Largest number of deleted nodes kept for reuse; 0 if pooling is off.
+	 */
+	public int nodePoolCapacity()
+	{
+		return this.poolCapacity;
+	}
+
+
+	/**
+	 * Number of deleted nodes waiting to be reused.
+	 */
+	public int nodePoolSize()
+	{
+		return this.freeCount;
+	}
+
+
+	/**
+	 * Number of nodes taken from the pool instead of being allocated.
+	 */
+	public long nodePoolHits()
+	{
+		return this.poolHits;
+	}
+
+
+	/**
+	 * Number of nodes allocated while pooling was on because the pool was empty.
+	 */
+	public long nodePoolMisses()
+	{
+		return this.poolMisses;
+	}
+
+
+	/**
+	 * Fraction of the nodes created while pooling was on that came from the pool,
+	 * or 0 if none have been created.
+	 */
+	public double nodePoolHitRate()
+	{
+		long total = this.poolHits + this.poolMisses;
+		return total == 0 ? 0 : (double) this.poolHits / total;
 	}
 
 
@@ -82,9 +235,12 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			LinkedNode280<I> newNode = createNewNode(x);
 			newNode.setNextNode(position);
 			prevPosition.setNextNode(newNode);
+			int idx = position == fingerNode ? fingerIndex : -1;
 			
 			// since position didn't change, but we changed it's predecessor, prevPosition needs to be updated to be the new previous node.
 			prevPosition = newNode;			
+			numEl++;
+			nodeInserted(newNode, idx);
 		}
 	}
 	
@@ -146,6 +302,9 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			this.position = this.head;
 		}
 		else {
+			int idx = this.position == this.fingerNode ? this.fingerIndex : -1;
+			LinkedNode280<I> deleted = this.position;
+			
 			// Set the previous node to point to the successor node. 
 			this.prevPosition.setNextNode(this.position.nextNode());
 			
@@ -154,6 +313,15 @@ public class LinkedList280<I> implements SimpleList280<I> {
 				this.tail = this.prevPosition;
 			}
 			this.position = this.position.nextNode();
+			this.numEl--;
+			this.recycleNode(deleted);
+			this.nodesDeleted(idx, 1);
+			
+			// The next node now has the deleted node's index.
+			if( idx >= 0 && this.position != null ) {
+				this.fingerNode = this.position;
+				this.fingerIndex = idx;
+			}
 		}
 	}
 
@@ -174,6 +342,8 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		this.tail = null;
 		this.position = null;
 		this.prevPosition = null;
+		this.numEl = 0;
+		this.forgetPositions();
 	}
 
 	@Override
@@ -186,10 +356,24 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		return false;
 	}
 
+	/**
+	 * Obtain the number of elements in the list.  The count is kept up to date by
+	 * every insertion and deletion, so this does not walk the list.
+	 * @return The number of elements in the list.
+	 * @timing O(1)
+	 */
+	public int count() {
+		return this.numEl;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public LinkedList280<I> clone() throws CloneNotSupportedException {
-		return (LinkedList280<I>)super.clone();
+		LinkedList280<I> result = (LinkedList280<I>)super.clone();
+		result.checkpoints = null;
+		result.freeNodes = null;
+		result.freeCount = 0;
+		return result;
 	}
 
 	@Override
@@ -233,6 +417,9 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		LinkedNode280<I> oldhead = this.head;
 		this.head = this.head.nextNode();
 		oldhead.setNextNode(null);
+		this.numEl--;
+		this.nodesDeleted(0, 1);
+		this.recycleNode(oldhead);
 	}
 
 	@Override
@@ -246,10 +433,14 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			// If the cursor is on the last node, we need to update the cursor.
 			if( this.position == this.tail ) {
                 if(prevPosition==head && position==tail){
+                    LinkedNode280<I> oldtail = tail;
                     tail = head;
                     position = head;
                     prevPosition = null;
                     this.head.nextNode = null;
+                    numEl--;
+                    nodesDeleted(numEl, 1);
+                    recycleNode(oldtail);
                     return;
                 }
                 // Find the node prior to this.position
@@ -271,11 +462,306 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			}
 
 			// Unlink the last node.
+			LinkedNode280<I> oldtail = this.tail;
 			penultimate.setNextNode(null);
 			this.tail = penultimate;
+			this.numEl--;
+			this.nodesDeleted(this.numEl, 1);
+			this.recycleNode(oldtail);
 		}
 	}
 
+	/**
+	 * Unlink the nodes after pred, up to and including last, from the list.
+	 * The cursor is not changed.
+	 * @param pred Node before the first node to unlink, or null if the first node is unlinked.
+	 * @param last Last node to unlink.
+	 * @param from Index of the first node to unlink.
+	 * @param n Number of nodes unlinked.
+	 */
+	protected void unlinkRange(LinkedNode280<I> pred, LinkedNode280<I> last, int from, int n) {
+		LinkedNode280<I> first = pred == null ? this.head : pred.nextNode();
+		LinkedNode280<I> next = last.nextNode();
+		if( pred == null ) this.head = next;
+		else pred.setNextNode(next);
+		if( last == this.tail ) this.tail = pred;
+		last.setNextNode(null);
+		this.numEl -= n;
+		this.nodesDeleted(from, n);
+		
+		// Pool as many of the unlinked nodes as will fit.
+		while( first != null && this.freeCount < this.poolCapacity ) {
+			LinkedNode280<I> following = first.nextNode();
+			this.recycleNode(first);
+			first = following;
+		}
+	}
+
+	/**
+	 * Delete the first n items, unlinking them all at once after walking to the nth node.
+	 * If the cursor was on a deleted item, it moves to the new first item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == 0 ) return;
+
+		// Find the nth node, noting whether the cursor is on one of the nodes passed.
+		boolean cursorInside = false;
+		LinkedNode280<I> last = null;
+		LinkedNode280<I> cur = this.head;
+		for(int i = 0; i < n; i++) {
+			if( cur == this.position || cur == this.prevPosition ) cursorInside = true;
+			last = cur;
+			cur = cur.nextNode();
+		}
+
+		this.unlinkRange(null, last, 0, n);
+		if( cursorInside ) {
+			this.position = this.head;
+			this.prevPosition = null;
+		}
+	}
+
+	/**
+	 * Delete the last n items in a single walk to the new last node.  If the cursor
+	 * was on a deleted item, it moves to the new last item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(count - n)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == 0 ) return;
+		if( n == this.numEl ) {
+			this.unlinkRange(null, this.tail, 0, n);
+			this.goBefore();
+			return;
+		}
+
+		// Walk to the new last node, noting whether the cursor is on a node that is kept.
+		LinkedNode280<I> trail = this.head;
+		LinkedNode280<I> trailPred = null;
+		boolean positionKept = trail == this.position;
+		for(int i = this.numEl - n - 1; i > 0; i--) {
+			trailPred = trail;
+			trail = trail.nextNode();
+			if( trail == this.position ) positionKept = true;
+		}
+
+		boolean wasAfter = this.after();
+		this.unlinkRange(trail, this.tail, this.numEl - n, n);
+		if( this.position != null && !positionKept ) {
+			this.position = trail;
+			this.prevPosition = trailPred;
+		}
+		else if( wasAfter ) this.prevPosition = trail;
+	}
+
+	/**
+	 * Delete the items with indices from to to-1, counting from 0 at the first item,
+	 * unlinking the range all at once.  If the cursor was on a deleted item, it moves
+	 * to the item after the range, or to after() if there is none.
+	 * @param from Index of the first item to delete.
+	 * @param to One past the index of the last item to delete.
+	 * @throws InvalidArgument280Exception unless 0 <= from <= to <= count().
+	 * @timing O(sqrt(n) + to - from), amortized
+	 */
+	public void deleteRange(int from, int to) throws InvalidArgument280Exception {
+		if( from < 0 || to > this.numEl || from > to )
+			throw new InvalidArgument280Exception("Cannot delete the range " + from + " to " + to + " from a list of " + this.numEl + ".");
+		if( from == to ) return;
+
+		LinkedNode280<I> pred = from == 0 ? null : this.nodeAt(from - 1);
+		LinkedNode280<I> cur = pred == null ? this.head : pred.nextNode();
+
+		boolean positionInside = false, prevInside = false;
+		LinkedNode280<I> last = null;
+		for(int i = from; i < to; i++) {
+			if( cur == this.position ) positionInside = true;
+			if( cur == this.prevPosition ) prevInside = true;
+			last = cur;
+			cur = cur.nextNode();
+		}
+
+		this.unlinkRange(pred, last, from, to - from);
+		if( positionInside ) this.position = cur;
+		if( positionInside || prevInside ) this.prevPosition = pred;
+	}
+
+	/**
+	 * Record that node was inserted at index idx, and adjust the checkpoints and the
+	 * finger to match.
+	 * @param idx Index of the new node, or -1 if it is not known.
+	 */
+	protected void nodeInserted(LinkedNode280<I> node, int idx) {
+		if( idx < 0 ) {
+			this.forgetPositions();
+			return;
+		}
+		if( this.checkpoints != null ) this.checkpoints.inserted(node, idx, this.numEl);
+		if( this.fingerNode != null && this.fingerIndex >= idx ) this.fingerIndex++;
+	}
+
+	/**
+	 * Record that the n nodes starting at index from were deleted, and adjust the
+	 * checkpoints and the finger to match.
+	 * @param from Index of the first deleted node, or -1 if it is not known.
+	 * @param n Number of nodes deleted.
+	 */
+	protected void nodesDeleted(int from, int n) {
+		if( from < 0 ) {
+			this.forgetPositions();
+			return;
+		}
+		if( this.checkpoints != null ) this.checkpoints.deleted(from, n);
+		if( this.fingerNode != null ) {
+			if( this.fingerIndex >= from + n ) this.fingerIndex -= n;
+			else if( this.fingerIndex >= from ) this.fingerNode = null;
+		}
+	}
+
+	/**
+	 * Discard the checkpoints and the finger after a change at an unknown index.
+	 */
+	protected void forgetPositions() {
+		this.checkpoints = null;
+		this.fingerNode = null;
+	}
+
+	/**
+	 * Checkpoints for the list, built or rebuilt if needed.
+	 */
+	protected LinkedListCheckpoints280<I> checkpoints() {
+		if( this.checkpoints == null || this.checkpoints.needsRebuild(this.numEl) )
+			this.checkpoints = new LinkedListCheckpoints280<I>(this.head, this.numEl);
+		return this.checkpoints;
+	}
+
+	/**
+	 * Find the node at index idx by walking forward from the nearest node at or before
+	 * it whose index is known: the first node, a checkpoint, or the finger.  The finger
+	 * is left on the node found.
+	 * @param idx Index of the node; the first node is at index 0.
+	 * @precond 0 <= idx < count()
+	 * @timing O(sqrt(n)) amortized, or O(d) for a node d places after the finger.
+	 */
+	protected LinkedNode280<I> nodeAt(int idx) {
+		LinkedNode280<I> node;
+		int at;
+		if( idx == this.numEl - 1 ) {
+			node = this.tail;
+			at = idx;
+		}
+		else if( this.fingerNode != null && this.fingerIndex <= idx && idx - this.fingerIndex <= 8 ) {
+			// Close enough to the finger that the checkpoints are not needed.
+			node = this.fingerNode;
+			at = this.fingerIndex;
+		}
+		else {
+			LinkedListCheckpoints280<I> cp = this.checkpoints();
+			int j = cp.floor(idx);
+			node = j < 0 ? this.head : cp.node(j);
+			at = j < 0 ? 0 : cp.index(j);
+			if( this.fingerNode != null && this.fingerIndex <= idx && this.fingerIndex > at ) {
+				node = this.fingerNode;
+				at = this.fingerIndex;
+			}
+			cp.walked(idx - at);
+		}
+		for( ; at < idx; at++) node = node.nextNode();
+		this.fingerNode = node;
+		this.fingerIndex = idx;
+		return node;
+	}
+
+	/**
+	 * Obtain the item at index idx without moving the cursor.
+	 * @param idx Index of the item; the first item is at index 0.
+	 * @throws InvalidArgument280Exception if there is no item at index idx.
+	 * @timing O(sqrt(n)) amortized, or O(d) for an index d places after the last one used.
+	 */
+	public I getItemAtIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		return this.nodeAt(idx).item();
+	}
+
+	/**
+	 * Move the cursor to the item at index idx.
+	 * @param idx Index of the item; the first item is at index 0.
+	 * @throws InvalidArgument280Exception if there is no item at index idx.
+	 * @timing O(sqrt(n)) amortized, or O(d) for an index d places after the cursor.
+	 */
+	public void goIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		if( idx == 0 ) {
+			this.goFirst();
+			return;
+		}
+		this.prevPosition = this.nodeAt(idx - 1);
+		this.position = this.prevPosition.nextNode();
+		this.fingerNode = this.position;
+		this.fingerIndex = idx;
+	}
+
+	/**
+	 * Link node into the list after pred.
+	 * @param pred Node that will precede node; it is not the last node.
+	 */
+	protected void linkAfter(LinkedNode280<I> pred, LinkedNode280<I> node) {
+		node.setNextNode(pred.nextNode());
+		pred.setNextNode(node);
+	}
+
+	/**
+	 * Insert x so that it becomes the item at index idx.  The cursor stays on its item.
+	 * @param idx Index of the new item, from 0 to count().
+	 * @param x Item to insert.
+	 * @throws InvalidArgument280Exception unless 0 <= idx <= count().
+	 * @timing O(sqrt(n)) amortized
+	 */
+	public void insertAtIndex(int idx, I x) throws InvalidArgument280Exception {
+		if( idx < 0 || idx > this.numEl )
+			throw new InvalidArgument280Exception("Cannot insert at position " + idx + " in a list of " + this.numEl + ".");
+		if( idx == 0 ) {
+			this.insertFirst(x);
+			return;
+		}
+		if( idx == this.numEl ) {
+			this.insertLast(x);
+			return;
+		}
+		LinkedNode280<I> pred = this.nodeAt(idx - 1);
+		LinkedNode280<I> node = this.createNewNode(x);
+		this.linkAfter(pred, node);
+		
+		// If the cursor is on the node after pred, its predecessor is now the new node.
+		if( this.prevPosition == pred ) this.prevPosition = node;
+		this.numEl++;
+		this.nodeInserted(node, idx);
+	}
+
+	/**
+	 * Delete the item at index idx.  If the cursor was on it, it moves to the next
+	 * item, or to after() if there is none.
+	 * @param idx Index of the item to delete.
+	 * @throws InvalidArgument280Exception if there is no item at index idx.
+	 * @timing O(sqrt(n)) amortized
+	 */
+	public void deleteAtIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		this.deleteRange(idx, idx + 1);
+	}
+
 	@Override
 	public I firstItem() throws ContainerEmpty280Exception {
 		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot obtain beginning of an empty list.");
@@ -297,6 +783,8 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		// Special case: if the list is empty, the new item also becomes the tail.
 		if( this.isEmpty() ) this.tail = newItem;
 		this.head = newItem;
+		this.numEl++;
+		this.nodeInserted(newItem, 0);
 	}
 
 	@Override
@@ -318,6 +806,8 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			this.tail.setNextNode(newItem);
 			this.tail = newItem;
 		}
+		this.numEl++;
+		this.nodeInserted(newItem, this.numEl - 1);
 	}
 
 	@Override
@@ -364,6 +854,8 @@ public class LinkedList280<I> implements SimpleList280<I> {
 
 		this.position = this.head;
 		this.prevPosition = null;
+		this.fingerNode = this.head;
+		this.fingerIndex = 0;
 	}
 
 	@Override
@@ -375,8 +867,15 @@ public class LinkedList280<I> implements SimpleList280<I> {
 			goFirst();
 		else
 		{
+			boolean onFinger = this.position == this.fingerNode;
 			this.prevPosition = this.position;
 			this.position = this.position.nextNode();
+			
+			// Keep the finger on the cursor.
+			if( onFinger && this.position != null ) {
+				this.fingerNode = this.position;
+				this.fingerIndex++;
+			}
 		}		
 	}
 
@@ -434,6 +933,7 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		// Find the item to be deleted.
 		search(x);
 		if( !this.itemExists() ) throw new ItemNotFound280Exception("Item to be deleted wasn't in the list.");
+		int idx = this.position == this.fingerNode ? this.fingerIndex : -1;
 
 		// If we are about to delete the item that the cursor was pointing at,
 		// advance the cursor in the saved position, but leave the predecessor where
@@ -468,6 +968,9 @@ public class LinkedList280<I> implements SimpleList280<I> {
 		if( this.position == this.tail ) this.tail = this.prevPosition;
 		
 		this.position.setNextNode(null);
+		this.numEl--;
+		this.nodesDeleted(idx, 1);
+		this.recycleNode(this.position);
 		
 		// Restore the old, possibly modified cursor.
 		this.goPosition(savePos);
@@ -0,0 +1,174 @@
+package lib280.list;
+
+/**
+ * Skip pointers into a LinkedList280: about every spacing-th node together with
+ * its index, so that the node at any index can be found by walking forward from
+ * the nearest checkpoint before it.  The spacing is about the square root of the
+ * length of the list when the checkpoints are built, so a lookup walks O(sqrt(n))
+ * nodes.
+ *
+ * Insertions and deletions at known indices update the checkpoints: the indices
+ * of the checkpoints after the change are adjusted, which is O(1) when the change
+ * comes before every checkpoint and O(n / spacing) otherwise.  Deleted checkpoints
+ * are dropped, and insertions widen the gaps, so the list rebuilds the checkpoints
+ * once a lookup has to walk too far.
+ */
+class LinkedListCheckpoints280<I> {
+
+	/**
+	 * Checkpoint nodes, in list order, in slots start to end-1.
+	 */
+	private LinkedNode280<I>[] nodes;
+
+	/**
+	 * Index of each checkpoint node, less shift.
+	 */
+	private int[] indices;
+
+	/**
+	 * Amount added to every stored index, so that a change before every checkpoint
+	 * adjusts them all at once.
+	 */
+	private int shift;
+
+	/**
+	 * Slots of the first checkpoint and one past the last.
+	 */
+	private int start, end;
+
+	/**
+	 * Number of nodes between checkpoints when they were built.
+	 */
+	private int spacing;
+
+	/**
+	 * Set when a lookup walked more than twice the spacing.
+	 */
+	private boolean stale;
+
+	/**
+	 * Build checkpoints for the count nodes starting at head.
+	 * @timing O(count)
+	 */
+	@SuppressWarnings("unchecked")
+	LinkedListCheckpoints280(LinkedNode280<I> head, int count) {
+		this.spacing = Math.max(8, (int) Math.sqrt(count));
+		int n = Math.max((count + this.spacing - 1) / this.spacing, 4);
+		this.nodes = (LinkedNode280<I>[]) new LinkedNode280<?>[n];
+		this.indices = new int[n];
+		LinkedNode280<I> node = head;
+		for(int i = 0; i < count; i++, node = node.nextNode()) {
+			if( i % this.spacing == 0 ) {
+				this.nodes[this.end] = node;
+				this.indices[this.end++] = i;
+			}
+		}
+	}
+
+	/**
+	 * Whether the checkpoints should be rebuilt for a list of count nodes.
+	 */
+	boolean needsRebuild(int count) {
+		return this.stale || count > 4 * this.spacing * this.spacing;
+	}
+
+	/**
+	 * Record a lookup that walked the given number of nodes from its starting point.
+	 */
+	void walked(int steps) {
+		if( steps > 2 * this.spacing ) this.stale = true;
+	}
+
+	LinkedNode280<I> node(int j) {
+		return this.nodes[j];
+	}
+
+	int index(int j) {
+		return this.indices[j] + this.shift;
+	}
+
+	/**
+	 * Slot of the last checkpoint with index at most idx, or -1 if there is none.
+	 */
+	int floor(int idx) {
+		int lo = this.start, hi = this.end;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( this.index(mid) <= idx ) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo == this.start ? -1 : lo - 1;
+	}
+
+	/**
+	 * Slot of the first checkpoint with index at least idx, or -1 if there is none.
+	 */
+	int ceiling(int idx) {
+		int j = this.floor(idx - 1);
+		j = j < 0 ? this.start : j + 1;
+		return j < this.end ? j : -1;
+	}
+
+	/**
+	 * Record that node was inserted at index idx, in a list that now has count nodes.
+	 */
+	void inserted(LinkedNode280<I> node, int idx, int count) {
+		if( idx == count - 1 ) {
+			// Appended: it becomes a checkpoint if the last one is far enough back.
+			if( this.start == this.end || idx - this.index(this.end - 1) >= this.spacing )
+				this.append(node, idx);
+			return;
+		}
+		int j = this.ceiling(idx);
+		if( j < 0 ) return;
+		if( j == this.start ) this.shift++;
+		else for(int k = j; k < this.end; k++) this.indices[k]++;
+	}
+
+	/**
+	 * Record that the n nodes with indices from to from+n-1 were deleted.
+	 */
+	void deleted(int from, int n) {
+		int lo = this.ceiling(from);
+		if( lo < 0 ) return;
+		int hi = this.ceiling(from + n);
+		if( hi < 0 ) hi = this.end;
+		if( lo == this.start ) {
+			for(int k = lo; k < hi; k++) this.nodes[k] = null;
+			this.start = hi;
+			this.shift -= n;
+		}
+		else {
+			System.arraycopy(this.nodes, hi, this.nodes, lo, this.end - hi);
+			System.arraycopy(this.indices, hi, this.indices, lo, this.end - hi);
+			for(int k = this.end - (hi - lo); k < this.end; k++) this.nodes[k] = null;
+			this.end -= hi - lo;
+			for(int k = lo; k < this.end; k++) this.indices[k] -= n;
+		}
+	}
+
+	/**
+	 * Add node, at index idx, as the last checkpoint.
+	 */
+	@SuppressWarnings("unchecked")
+	private void append(LinkedNode280<I> node, int idx) {
+		if( this.end == this.nodes.length ) {
+			int n = this.end - this.start;
+			LinkedNode280<I>[] newNodes = this.nodes;
+			int[] newIndices = this.indices;
+			if( n * 2 > this.nodes.length ) {
+				newNodes = (LinkedNode280<I>[]) new LinkedNode280<?>[this.nodes.length * 2];
+				newIndices = new int[this.nodes.length * 2];
+			}
+			System.arraycopy(this.nodes, this.start, newNodes, 0, n);
+			System.arraycopy(this.indices, this.start, newIndices, 0, n);
+			for(int k = n; k < this.end; k++) newNodes[k] = null;
+			this.nodes = newNodes;
+			this.indices = newIndices;
+			this.start = 0;
+			this.end = n;
+		}
+		this.nodes[this.end] = node;
+		this.indices[this.end++] = idx - this.shift;
+	}
+}
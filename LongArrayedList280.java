@@ -0,0 +1,360 @@
+/* LongArrayedList280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.*;
+
+/**
+ * An arrayed list of long values.  It has the same circular layout and cursor
+ * semantics as ArrayedList280, but the elements are stored in a long[] so that
+ * no element is ever boxed.  The layout and cursor logic are in
+ * PrimitiveArrayedList280; this class reads and writes the elements.
+ *
+ * @see ArrayedList280
+ */
+public class LongArrayedList280 extends PrimitiveArrayedList280 {
+
+	/**
+	 * Array where the elements are stored.
+	 */
+	protected long[] listElements;
+
+
+	/**
+	 * Create a new, empty list.
+	 * @param capacity The maximum number of elements in the list.
+	 */
+	public LongArrayedList280(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * Create a new, empty list.
+	 * @param capacity The initial number of elements the list can hold.
+	 * @param growable If true, the capacity doubles whenever an insertion is made
+	 *                 into a full list, and the list is never full.
+	 */
+	public LongArrayedList280(int capacity, boolean growable) {
+		super(capacity, growable);
+		this.listElements = new long[capacity];
+	}
+
+	@Override
+	protected Object elements() {
+		return this.listElements;
+	}
+
+	@Override
+	protected Object newElements(int n) {
+		this.listElements = new long[n];
+		return this.listElements;
+	}
+
+	/**
+	 * Returns the first element in the list.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 */
+	public long firstItem() throws ContainerEmpty280Exception {
+		if(this.isEmpty()) throw new ContainerEmpty280Exception();
+
+		return this.listElements[this.mod(this.head-1, this.capacity)];
+	}
+
+	/**
+	 * Insert x as the first element in the list.
+	 * @precond !isFull()
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	public void insertFirst(long x) throws ContainerFull280Exception {
+		int slot = this.claimFirst();
+		this.listElements[slot] = x;
+	}
+
+	/**
+	 * Insert x as the last element in the list.
+	 * @precond !isFull()
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	public void insertLast(long x) throws ContainerFull280Exception {
+		int slot = this.claimLast();
+		this.listElements[slot] = x;
+	}
+
+	/**
+	 * Insert x at the beginning of the list.
+	 * @precond !isFull()
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	public void insert(long x) throws ContainerFull280Exception {
+		insertFirst(x);
+	}
+
+	/**
+	 * Returns the last element in the list.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 */
+	public long lastItem() throws ContainerEmpty280Exception {
+		if(this.isEmpty()) throw new ContainerEmpty280Exception();
+		return this.listElements[tail];
+	}
+
+	/**
+	 * Returns the element at the cursor.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no item at the cursor.
+	 */
+	public long item() throws NoCurrentItem280Exception {
+		if(!this.itemExists()) throw new NoCurrentItem280Exception();
+
+		return this.listElements[this.position];
+	}
+
+	/**
+	 * Obtain the item at position idx in the list. The first element is at index 0.
+	 * @param idx - index (position) of the desired list element
+	 * @return the element at index idx in the arrayed list.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	public long getItemAtIndex(int idx) {
+		this.checkIndex(idx);
+		return this.listElements[this.slotOf(idx)];
+	}
+
+	/**
+	 * A clone of this list that does not share its array.
+	 */
+	@Override
+	public LongArrayedList280 clone() throws CloneNotSupportedException {
+		LongArrayedList280 result = (LongArrayedList280) super.clone();
+		result.listElements = this.listElements.clone();
+		return result;
+	}
+
+	/**
+	 * The current position of the cursor.
+	 */
+	public CursorPosition280 currentPosition() {
+		LongArrayedListIterator280 iter = new LongArrayedListIterator280(this.listElements, this.head, this.tail, this.numEl);
+		iter.position = this.position;
+		return iter;
+	}
+
+	/**
+	 * Go to the position in the list specified by c.
+	 * @param c position to which to go
+	 * @throws IllegalArgumentException if c is not a position in this list.
+	 */
+	public void goPosition(CursorPosition280 c) throws IllegalArgumentException {
+		if( !(c instanceof LongArrayedListIterator280) )
+			throw new IllegalArgumentException("Argument is not a position in a LongArrayedList280.");
+		this.goPosition((LongArrayedListIterator280) c);
+	}
+
+	public LongArrayedListIterator280 iterator() {
+		return new LongArrayedListIterator280(this.listElements, this.head, this.tail, this.numEl);
+	}
+
+	/**
+	 * Delete the first occurrence of x from the list.  The cursor stays on the
+	 * element it was on, or moves to the next element if that element was deleted.
+	 * @precond !isEmpty() and has(x)
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 * @throws ItemNotFound280Exception if x is not in the list.
+	 */
+	public void delete(long x) throws ItemNotFound280Exception, ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
+
+		int found = this.indexOf(x);
+		if( found < 0 ) throw new ItemNotFound280Exception();
+		this.deleteAtIndex(found);
+	}
+
+	/**
+	 * Does the list contain y?  The cursor is not moved.
+	 * @param y value to look for
+	 * @return true if y is in the list, false otherwise.
+	 */
+	public boolean has(long y) {
+		return this.indexOf(y) >= 0;
+	}
+
+	/**
+	 * Find the first occurrence of y without moving the cursor.
+	 * @param y value to look for
+	 * @return the index of the first occurrence of y, or -1 if y is not in the list.
+	 */
+	public int indexOf(long y) {
+		return this.indexOf(y, 0);
+	}
+
+	/**
+	 * Find the first occurrence of y at or after index from, without moving the cursor.
+	 * The elements from index from onward lie in at most two runs of the array: from
+	 * the slot of index from down to slot 0, then down from the top of the array.
+	 * Each run is scanned by ArrayScan280, which uses the Vector API when it is available.
+	 * @param y value to look for
+	 * @param from index to start looking at
+	 * @return the index of the first occurrence of y, or -1 if there is none.
+	 */
+	public int indexOf(long y, int from) {
+		int n = this.numEl - from;
+		if( n <= 0 ) return -1;
+		long[] a = this.listElements;
+		int start = this.slotOf(from);
+		int first = Math.min(n, start + 1);
+		int s = ArrayScan280.lastIndexOf(a, start + 1 - first, start + 1, y);
+		if( s >= 0 ) return from + (start - s);
+		int top = this.capacity - 1;
+		s = ArrayScan280.lastIndexOf(a, top + 1 - (n - first), top + 1, y);
+		if( s >= 0 ) return from + first + (top - s);
+		return -1;
+	}
+
+	/**
+	 * Count the occurrences of y.  Order does not matter, so each of the two runs of
+	 * the array is counted by ArrayScan280 as a whole.
+	 * @param y value to count
+	 * @return the number of elements equal to y.
+	 */
+	public int countOf(long y) {
+		if( this.numEl == 0 ) return 0;
+		long[] a = this.listElements;
+		int start = this.slotOf(0);
+		int first = Math.min(this.numEl, start + 1);
+		return ArrayScan280.count(a, start + 1 - first, start + 1, y)
+				+ ArrayScan280.count(a, this.capacity - (this.numEl - first), this.capacity, y);
+	}
+
+	public boolean membershipEquals(long x, long y) {
+		return x == y;
+	}
+
+	/**
+	 * Move the cursor to the next occurrence of x, or to after() if there is none.
+	 * @param x value to search for
+	 */
+	public void search(long x) {
+		int from = this.searchStart();
+		if( from >= 0 ) this.goFound(this.indexOf(x, from));
+	}
+
+	@Override
+	public String toString() {
+		if( this.isEmpty() ) return "<Empty>";
+
+		StringBuilder result = new StringBuilder();
+		for(int i = 0; i < this.numEl; i++)
+			result.append(this.listElements[this.slotOf(i)]).append(", ");
+		return result.toString();
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		LongArrayedList280 L = new LongArrayedList280(5);
+
+		L.insert(5);
+		L.insert(4);
+		L.insertLast(3);
+		L.insertLast(10);
+		L.insertFirst(2);
+
+		System.out.print("List should be full...");
+		if( L.isFull() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.println("List should be: 2, 4, 5, 3, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		long[] expected = {2, 4, 5, 3, 10};
+		for(int i=0; i < expected.length; i++)
+			if( L.getItemAtIndex(i) != expected[i] )
+				System.out.println("Error: Item at index " + i + " should be " + expected[i] + " but it is: " + L.getItemAtIndex(i));
+
+		System.out.println("Adding to tail of full list.");
+		try {
+			L.insertLast(3);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerFull280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.search(3);
+		System.out.print("cursor should be at 3 ....");
+		if( L.itemExists() && L.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.delete(4);
+		System.out.print("cursor should still be at 3 ....");
+		if( L.item() == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.print("has(4) should be false ....");
+		if( !L.has(4) ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.deleteFirst();
+		L.deleteLast();
+		System.out.println("List should be: 5, 3, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("firstItem should be 5 and lastItem should be 3 ....");
+		if( L.firstItem() == 5 && L.lastItem() == 3 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		L.goBefore();
+		L.goForth();
+		System.out.print("goForth() from before should reach 5 ....");
+		if( L.item() == 5 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		LongArrayedList280 G = new LongArrayedList280(1, true);
+		for(int i=1; i <= 100; i++) G.insertLast(i);
+		LongArrayedListIterator280 iter = G.iterator();
+		iter.goFirst();
+		long sum = 0;
+		while( iter.itemExists() ) {
+			sum += iter.item();
+			iter.goForth();
+		}
+		System.out.print("Sum of growable list should be 5050 ....");
+		if( sum == 5050 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		// Searches over a list that wraps around the end of the array.
+		LongArrayedList280 W = new LongArrayedList280(1000);
+		for(int i = 500; i < 1000; i++) W.insertLast(i % 7);
+		for(int i = 499; i >= 0; i--) W.insertFirst(i % 7);
+		System.out.print("countOf(3) should be 143 and indexOf(3, 500) should be 500 ....");
+		if( W.countOf(3) == 143 && W.indexOf(3, 500) == 500 && W.indexOf(3) == 3 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+		W.search(6);
+		W.resumeSearches();
+		W.search(6);
+		System.out.print("resumed search for 6 should stop at index 13 ....");
+		if( W.itemExists() && W.mod(W.head - 1 - W.position, W.capacity) == 13 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		W.restartSearches();
+		W.search(7);
+		System.out.print("search for 7 should be 'after' ....");
+		if( W.after() && W.indexOf(6, 999) == -1 && W.indexOf(5, 999) == 999 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.clear();
+		System.out.print("List should be empty...");
+		if( L.isEmpty() ) System.out.println("and it is.");
+		else System.out.println("ERROR: and it is *NOT*.");
+	}
+}
@@ -0,0 +1,344 @@
+/* MappedRingJournal280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import lib280.exception.ContainerFull280Exception;
+import lib280.exception.InvalidState280Exception;
+
+/**
+ * A persistent circular list whose records, head, tail and count live in a
+ * memory-mapped file.  Every insertion and deletion writes straight into the
+ * mapping, so nothing has to be serialized, and reopening the file recovers the
+ * list in O(1) by mapping it again.
+ *
+ * The file starts with a header of HEADER_SIZE bytes holding a magic number,
+ * the capacity, the record size, head and count, followed by the record slots.  The cursor is not persistent; a recovered list starts before().
+ *
+ * Head and count share one aligned 8-byte word of the header, and the tail is
+ * derived from them, so the header is updated by a single write that cannot be
+ * torn within a disk sector.  That word is only written by force(), after the
+ * records have been forced, so the header on disk never counts a record that
+ * might not be on disk yet.  An insertion that would overwrite a slot that the
+ * header on disk still counts forces first.  A recovered journal therefore holds
+ * exactly the list as of the last force(); changes since then are lost, even if
+ * only the process crashed.  setForcePolicy() controls how often forces happen
+ * automatically, trading durability against throughput.
+ *
+ * Deleting from the middle of the list moves records in place, so a crash during
+ * deleteItem() can leave records that the header on disk counts inconsistent;
+ * insertions and deletions at the ends cannot.
+ *
+ * @param <I> Type of the items in the list.
+ */
+public class MappedRingJournal280<I> extends OffHeapArrayedList280<I> implements Closeable {
+
+	/**
+	 * Number of bytes before the first record slot.
+	 */
+	public static final int HEADER_SIZE = 32;
+
+	/**
+	 * Identifies a file written by this class.
+	 */
+	protected static final int MAGIC = 0x524E4732;
+
+	private static final int MAGIC_OFFSET = 0;
+	private static final int CAPACITY_OFFSET = 4;
+	private static final int RECORD_SIZE_OFFSET = 8;
+
+	/**
+	 * Offset of the word holding head in its upper half and count in its lower half.
+	 */
+	private static final int STATE_OFFSET = 16;
+
+	/**
+	 * Channel of the mapped file.
+	 */
+	protected FileChannel channel;
+
+	/**
+	 * Force the mapping to disk after this many changes, or never if 0.
+	 */
+	protected int forceEvery;
+
+	/**
+	 * Force the mapping to disk on the first change this many milliseconds
+	 * after the last force, or never if 0.
+	 */
+	protected long forceIntervalMillis;
+
+	/**
+	 * Number of changes since the last force.
+	 */
+	protected int unforcedChanges;
+
+	/**
+	 * Time of the last force, from System.currentTimeMillis().
+	 */
+	protected long lastForceMillis;
+
+	/**
+	 * Head and count as last written to the header by force().
+	 */
+	protected int forcedHead, forcedCount;
+
+
+	/**
+	 * Open the journal in file, creating the file if it does not exist.  If the file
+	 * already holds a journal, the list it contains is recovered.  By default every
+	 * change is forced to disk.
+	 * @param file File that holds the journal.
+	 * @param capacity The maximum number of elements in the list.
+	 * @param codec Converts items to and from records.
+	 * @throws IOException if the file cannot be mapped, or holds a journal with a
+	 *         different capacity or record size.
+	 */
+	public MappedRingJournal280(Path file, int capacity, RecordCodec280<I> codec) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE), capacity, codec);
+	}
+
+	private MappedRingJournal280(FileChannel channel, int capacity, RecordCodec280<I> codec) throws IOException {
+		super(map(channel, capacity, codec), HEADER_SIZE, capacity, codec);
+		this.channel = channel;
+		this.forceEvery = 1;
+		this.lastForceMillis = System.currentTimeMillis();
+
+		if( this.buffer.getInt(MAGIC_OFFSET) == MAGIC ) {
+			this.recover();
+		}
+		else {
+			this.buffer.putInt(CAPACITY_OFFSET, capacity);
+			this.buffer.putInt(RECORD_SIZE_OFFSET, this.recordSize);
+			this.force();
+			this.buffer.putInt(MAGIC_OFFSET, MAGIC);
+			this.force();
+		}
+	}
+
+	/**
+	 * Map the file, after checking that a journal already in it has the requested
+	 * shape, so that a mismatched file is rejected before it is resized.
+	 */
+	private static MappedByteBuffer map(FileChannel channel, int capacity, RecordCodec280<?> codec) throws IOException {
+		long bytes = HEADER_SIZE + (long) capacity * codec.recordSize();
+		try {
+			if( capacity < 0 || bytes > Integer.MAX_VALUE )
+				throw new IOException("Cannot map " + capacity + " records of " + codec.recordSize() + " bytes.");
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while( header.hasRemaining() && channel.read(header, header.position()) > 0 ) { }
+			if( !header.hasRemaining() && header.getInt(MAGIC_OFFSET) == MAGIC ) {
+				int fileCapacity = header.getInt(CAPACITY_OFFSET);
+				int fileRecordSize = header.getInt(RECORD_SIZE_OFFSET);
+				if( fileCapacity != capacity || fileRecordSize != codec.recordSize() )
+					throw new IOException("Journal holds " + fileCapacity + " records of " + fileRecordSize
+							+ " bytes, expected " + capacity + " records of " + codec.recordSize() + " bytes.");
+			}
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+		}
+		catch( IOException e ) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Restore head, tail and count from the header.
+	 * @throws IOException if the header does not describe a valid journal.
+	 */
+	protected void recover() throws IOException {
+		long state = this.buffer.getLong(STATE_OFFSET);
+		int fileHead = (int) (state >>> 32);
+		int fileCount = (int) state;
+		if( fileHead < 0 || fileHead >= Math.max(this.capacity, 1) || fileCount < 0 || fileCount > this.capacity ) {
+			this.channel.close();
+			throw new IOException("Journal header is corrupt.");
+		}
+
+		this.head = fileHead;
+		this.tail = this.capacity == 0 ? 0 : Math.floorMod(fileHead - fileCount, this.capacity);
+		this.numEl = fileCount;
+		this.forcedHead = fileHead;
+		this.forcedCount = fileCount;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	/**
+	 * Whether the header last forced to disk counts slot as part of the list.
+	 */
+	private boolean forcedHolds(int slot) {
+		return Math.floorMod(this.forcedHead - 1 - slot, this.capacity) < this.forcedCount;
+	}
+
+	/**
+	 * Insert x at the front, forcing first if its slot is still counted on disk.
+	 */
+	@Override
+	public void insertFirst(I x) throws ContainerFull280Exception {
+		if( !this.isFull() && this.forcedHolds(this.head) ) this.force();
+		super.insertFirst(x);
+	}
+
+	/**
+	 * Insert x at the end, forcing first if its slot is still counted on disk.
+	 */
+	@Override
+	public void insertLast(I x) throws ContainerFull280Exception {
+		if( !this.isFull() && this.forcedHolds(Math.floorMod(this.tail - 1, this.capacity)) ) this.force();
+		super.insertLast(x);
+	}
+
+	/**
+	 * Set how often changes are forced to disk.  A force happens as soon as either
+	 * limit is reached.  (1, 0) forces every change; (0, 0) leaves it to the caller.
+	 * @param everyChanges Force after this many changes, or 0 for no limit.
+	 * @param intervalMillis Force on the first change this many milliseconds after the
+	 *        last force, or 0 for no limit.
+	 */
+	public void setForcePolicy(int everyChanges, long intervalMillis) {
+		this.forceEvery = everyChanges;
+		this.forceIntervalMillis = intervalMillis;
+	}
+
+	/**
+	 * Apply the force policy.
+	 */
+	@Override
+	protected void modified() {
+		this.unforcedChanges++;
+		if( (this.forceEvery > 0 && this.unforcedChanges >= this.forceEvery)
+				|| (this.forceIntervalMillis > 0 && System.currentTimeMillis() - this.lastForceMillis >= this.forceIntervalMillis) )
+			this.force();
+	}
+
+	/**
+	 * Write all changes to the storage device: first the records, then the header
+	 * word holding head and count, then the header again.
+	 * @throws InvalidState280Exception if the journal has been closed.
+	 */
+	public void force() throws InvalidState280Exception {
+		if( this.channel == null || !this.channel.isOpen() ) throw new InvalidState280Exception("The journal is closed.");
+		MappedByteBuffer mapped = (MappedByteBuffer) this.buffer;
+		mapped.force();
+		this.buffer.putLong(STATE_OFFSET, ((long) this.head << 32) | (this.numEl & 0xFFFFFFFFL));
+		mapped.force(0, HEADER_SIZE);
+		this.forcedHead = this.head;
+		this.forcedCount = this.numEl;
+		this.unforcedChanges = 0;
+		this.lastForceMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Force all changes to disk and close the file.  The list must not be used afterwards.
+	 */
+	@Override
+	public void close() throws IOException {
+		if( this.channel.isOpen() ) {
+			this.force();
+			this.channel.close();
+		}
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		RecordCodec280<Long> longCodec = new RecordCodec280<Long>() {
+			public int recordSize() { return 8; }
+			public void write(Long x, ByteBuffer buffer, int offset) { buffer.putLong(offset, x); }
+			public Long read(ByteBuffer buffer, int offset) { return buffer.getLong(offset); }
+		};
+
+		try {
+			File f = File.createTempFile("journal280", ".ring");
+			f.deleteOnExit();
+
+			MappedRingJournal280<Long> J = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			J.setForcePolicy(2, 0);
+			J.insertLast(1L);
+			J.insertLast(2L);
+			J.insertLast(3L);
+			J.deleteFirst();
+			J.insertLast(4L);
+			J.insertLast(5L);
+			System.out.println("List should be: 2, 3, 4, 5, ");
+			System.out.print(  "     and it is: ");
+			System.out.println(J);
+			J.close();
+
+			MappedRingJournal280<Long> R = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			System.out.println("Recovered list should be: 2, 3, 4, 5, ");
+			System.out.print(  "               and it is: ");
+			System.out.println(R);
+
+			System.out.print("Recovered list should be full ....");
+			if( R.isFull() ) System.out.println("and it is.  OK!");
+			else System.out.println("and it is not.  ERROR!");
+
+			System.out.print("cursor should be 'before' ....");
+			if( R.before() ) System.out.println("and it is.  OK!");
+			else System.out.println("and it is not.  ERROR!");
+
+			R.deleteFirst();
+			R.deleteFirst();
+			R.close();
+
+			R = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			System.out.print("firstItem should be 4 and count should be 2 ....");
+			if( R.firstItem() == 4L && R.count() == 2 ) System.out.println("and they are.  OK!");
+			else System.out.println("and they are not.  ERROR!");
+			R.close();
+
+			System.out.println("Opening the journal with the wrong capacity.");
+			long length = f.length();
+			try {
+				new MappedRingJournal280<Long>(f.toPath(), 8, longCodec);
+				System.out.println("ERROR: exception should have been thrown, but wasn't.");
+			}
+			catch( IOException e ) {
+				System.out.println("Caught exception. OK!");
+			}
+			System.out.print("the file should not have grown ....");
+			if( f.length() == length ) System.out.println("and it has not.  OK!");
+			else System.out.println("and it has.  ERROR!");
+
+			// A second mapping of the same file sees only what has been forced.
+			R = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			R.setForcePolicy(0, 0);
+			R.insertLast(6L);
+			MappedRingJournal280<Long> S = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			System.out.print("an unforced insertion should not be recovered ....");
+			if( S.count() == 2 ) System.out.println("and it is not.  OK!");
+			else System.out.println("and it is.  ERROR!");
+			S.close();
+
+			// Filling the ring reuses slots of records the header on disk still counts.
+			R.insertLast(7L);
+			R.deleteFirst();
+			R.insertLast(8L);
+			S = new MappedRingJournal280<Long>(f.toPath(), 4, longCodec);
+			System.out.println("Forced list should be: 5, 6, 7, ");
+			System.out.print(  "            and it is: ");
+			System.out.println(S);
+			S.close();
+			R.close();
+		}
+		catch( IOException e ) {
+			System.out.println("ERROR: unexpected exception: " + e);
+		}
+	}
+}
@@ -0,0 +1,661 @@
+/* OffHeapArrayedList280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.*;
+
+/**
+ * A circular arrayed list whose elements are stored as fixed-size records in a
+ * direct ByteBuffer rather than as objects on the Java heap.  Items are converted
+ * to and from records by a RecordCodec280.  The layout and cursor behave as in
+ * ArrayedList280: slot head-1 holds the first element and slot tail the last.
+ *
+ * item(), firstItem() and the searches decode records into new items.  The
+ * get*AtIndex() and item*() accessors read a single field of a record in place
+ * without creating any objects.
+ *
+ * @param <I> Type of the items in the list.
+ */
+public class OffHeapArrayedList280<I> implements SimpleList280<I> {
+
+	/**
+	 * Buffer where the records are stored.
+	 */
+	protected ByteBuffer buffer;
+
+	/**
+	 * Byte offset in buffer of the record in slot 0.
+	 */
+	protected int dataOffset;
+
+	/**
+	 * Converts items to and from records.
+	 */
+	protected RecordCodec280<I> codec;
+
+	/**
+	 * Number of bytes in each record.
+	 */
+	protected int recordSize;
+
+	/**
+	 * Indices of the beginning and end of the list.
+	 * List is empty when head = tail and numEl == 0.  List is full when
+	 * head = tail and numEl == capacity.
+	 */
+	protected int head, tail;
+
+	/**
+	 * Number of records the buffer can hold, maximum number of elements in the list.
+	 */
+	protected int capacity;
+
+	/**
+	 * Slot of the cursor, or one of ArrayedListIterator280.beforePos and afterPos.
+	 */
+	protected int position;
+
+	/**
+	 * Number of elements in the list
+	 */
+	protected int numEl;
+
+	/**
+	 * Do searches continue or start anew?
+	 */
+	protected boolean continueSearch;
+
+
+	private int mod( int a, int b ) {
+		return ((a % b) + b) % b;
+	}
+
+	/**
+	 * Create a new, empty list in a newly allocated direct buffer.
+	 * @param capacity The maximum number of elements in the list.
+	 * @param codec Converts items to and from records.
+	 * @throws InvalidArgument280Exception if the records would not fit in one buffer.
+	 */
+	public OffHeapArrayedList280(int capacity, RecordCodec280<I> codec) throws InvalidArgument280Exception {
+		this(allocate(capacity, codec), 0, capacity, codec);
+	}
+
+	/**
+	 * Create a new, empty list in part of an existing buffer.  The records occupy
+	 * capacity * codec.recordSize() bytes starting at dataOffset.
+	 * @param buffer Buffer to store the records in.
+	 * @param dataOffset Byte offset in buffer of the first record slot.
+	 * @param capacity The maximum number of elements in the list.
+	 * @param codec Converts items to and from records.
+	 * @throws InvalidArgument280Exception if the records do not fit in the buffer.
+	 */
+	protected OffHeapArrayedList280(ByteBuffer buffer, int dataOffset, int capacity, RecordCodec280<I> codec) throws InvalidArgument280Exception {
+		if( (long) dataOffset + (long) capacity * codec.recordSize() > buffer.capacity() )
+			throw new InvalidArgument280Exception("A buffer of " + buffer.capacity() + " bytes cannot hold " + capacity + " records.");
+		this.buffer = buffer;
+		this.dataOffset = dataOffset;
+		this.codec = codec;
+		this.recordSize = codec.recordSize();
+		this.capacity = capacity;
+		this.head = 0;
+		this.tail = 0;
+		this.numEl = 0;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	private static ByteBuffer allocate(int capacity, RecordCodec280<?> codec) throws InvalidArgument280Exception {
+		long bytes = (long) capacity * codec.recordSize();
+		if( capacity < 0 || bytes > Integer.MAX_VALUE )
+			throw new InvalidArgument280Exception("Cannot allocate " + capacity + " records of " + codec.recordSize() + " bytes.");
+		return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Called after every change to head, tail or the number of elements.
+	 * Subclasses that keep this state somewhere else can override it.
+	 */
+	protected void modified() {
+	}
+
+	/**
+	 * Byte offset in the buffer of the record in a slot.
+	 * @param slot Index of the slot.
+	 */
+	protected int offsetOf(int slot) {
+		return this.dataOffset + slot * this.recordSize;
+	}
+
+	/**
+	 * Slot that holds the element at position idx of the list.
+	 * @param idx Index of the element, the first element is at index 0.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	protected int slotOf(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		return this.mod(this.head - idx - 1, this.capacity);
+	}
+
+	@Override
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		if(isEmpty()) throw new ContainerEmpty280Exception();
+
+		// If the cursor is on the first item, move it to the second.
+		if( this.position == this.mod(this.head - 1, this.capacity) )
+			this.position = this.mod(this.head - 2, this.capacity);
+
+		this.head = this.mod(this.head - 1, this.capacity);
+		this.numEl--;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		this.modified();
+	}
+
+	@Override
+	public void deleteLast() throws ContainerEmpty280Exception {
+		if(isEmpty()) throw new ContainerEmpty280Exception();
+
+		// If the cursor is on the last item, we have to move it.
+		if( this.position == this.tail )
+			this.position = this.mod(this.tail + 1,  this.capacity);
+
+		this.tail = this.mod(this.tail + 1,  this.capacity);
+		this.numEl--;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		this.modified();
+	}
+
+	/**
+	 * Delete the first n items by moving head.  Records are not cleared, so this
+	 * takes constant time.  A cursor on a deleted item moves to the new first item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+
+		if( this.itemExists() && this.mod(this.head - 1 - this.position, this.capacity) < n )
+			this.position = this.mod(this.head - 1 - n, this.capacity);
+
+		this.head = this.mod(this.head - n, this.capacity);
+		this.numEl -= n;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		this.modified();
+	}
+
+	/**
+	 * Delete the last n items by moving tail.  Records are not cleared, so this
+	 * takes constant time.  A cursor on a deleted item moves to the new last item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+
+		if( this.itemExists() && this.mod(this.head - 1 - this.position, this.capacity) >= this.numEl - n )
+			this.position = this.mod(this.tail + n, this.capacity);
+
+		this.tail = this.mod(this.tail + n, this.capacity);
+		this.numEl -= n;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		this.modified();
+	}
+
+	@Override
+	public I firstItem() throws ContainerEmpty280Exception {
+		if(this.isEmpty()) throw new ContainerEmpty280Exception();
+
+		return this.codec.read(this.buffer, this.offsetOf(this.mod(this.head-1, this.capacity)));
+	}
+
+	@Override
+	public void insertFirst(I x) throws ContainerFull280Exception {
+		if(this.isFull()) throw new ContainerFull280Exception();
+
+		this.codec.write(x, this.buffer, this.offsetOf(this.head));
+		this.head = this.mod( this.head + 1, this.capacity);
+		this.numEl++;
+		this.modified();
+	}
+
+	@Override
+	public void insertLast(I x) throws ContainerFull280Exception {
+		if(this.isFull()) throw new ContainerFull280Exception();
+
+		int newTail = this.mod(this.tail - 1, this.capacity);
+		this.codec.write(x, this.buffer, this.offsetOf(newTail));
+		this.tail = newTail;
+		this.numEl++;
+		this.modified();
+	}
+
+	@Override
+	public I lastItem() throws ContainerEmpty280Exception {
+		if(this.isEmpty()) throw new ContainerEmpty280Exception();
+		return this.codec.read(this.buffer, this.offsetOf(this.tail));
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if(!this.itemExists()) throw new NoCurrentItem280Exception();
+
+		return this.codec.read(this.buffer, this.offsetOf(this.position));
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position != ArrayedListIterator280.beforePos && this.position != ArrayedListIterator280.afterPos;
+	}
+
+	/**
+	 * Read an int field of the record at the cursor without decoding the record.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no item at the cursor.
+	 */
+	public int itemInt(int fieldOffset) throws NoCurrentItem280Exception {
+		if(!this.itemExists()) throw new NoCurrentItem280Exception();
+		return this.buffer.getInt(this.offsetOf(this.position) + fieldOffset);
+	}
+
+	/**
+	 * Read a long field of the record at the cursor without decoding the record.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no item at the cursor.
+	 */
+	public long itemLong(int fieldOffset) throws NoCurrentItem280Exception {
+		if(!this.itemExists()) throw new NoCurrentItem280Exception();
+		return this.buffer.getLong(this.offsetOf(this.position) + fieldOffset);
+	}
+
+	/**
+	 * Read a double field of the record at the cursor without decoding the record.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no item at the cursor.
+	 */
+	public double itemDouble(int fieldOffset) throws NoCurrentItem280Exception {
+		if(!this.itemExists()) throw new NoCurrentItem280Exception();
+		return this.buffer.getDouble(this.offsetOf(this.position) + fieldOffset);
+	}
+
+	/**
+	 * Read an int field of the record at position idx without decoding the record.
+	 * @param idx Index of the element, the first element is at index 0.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	public int getIntAtIndex(int idx, int fieldOffset) throws InvalidArgument280Exception {
+		return this.buffer.getInt(this.offsetOf(this.slotOf(idx)) + fieldOffset);
+	}
+
+	/**
+	 * Read a long field of the record at position idx without decoding the record.
+	 * @param idx Index of the element, the first element is at index 0.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	public long getLongAtIndex(int idx, int fieldOffset) throws InvalidArgument280Exception {
+		return this.buffer.getLong(this.offsetOf(this.slotOf(idx)) + fieldOffset);
+	}
+
+	/**
+	 * Read a double field of the record at position idx without decoding the record.
+	 * @param idx Index of the element, the first element is at index 0.
+	 * @param fieldOffset Byte offset of the field within the record.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	public double getDoubleAtIndex(int idx, int fieldOffset) throws InvalidArgument280Exception {
+		return this.buffer.getDouble(this.offsetOf(this.slotOf(idx)) + fieldOffset);
+	}
+
+	/**
+	 * Obtain the item at position idx in the list. The first element is at index 0.
+	 * @param idx - index (position) of the desired list element
+	 * @return the element at index idx in the list, decoded into a new item.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	public I getItemAtIndex(int idx) throws InvalidArgument280Exception {
+		return this.codec.read(this.buffer, this.offsetOf(this.slotOf(idx)));
+	}
+
+	/**
+	 * A shallow clone of this list.  The clone shares the buffer with this list.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public OffHeapArrayedList280<I> clone() throws CloneNotSupportedException {
+		return (OffHeapArrayedList280<I>) super.clone();
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( isEmpty() ) throw new ContainerEmpty280Exception();
+		this.position = this.mod(this.head-1, capacity);
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.position == ArrayedListIterator280.afterPos )
+			throw new AfterTheEnd280Exception();
+		else if( this.position == ArrayedListIterator280.beforePos ) {
+			if( this.isEmpty() ) this.position = ArrayedListIterator280.afterPos;
+			else this.position = this.mod(this.head - 1, capacity);
+		}
+		else if( this.position == this.tail ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, capacity);
+	}
+
+	@Override
+	public CursorPosition280 currentPosition() {
+		OffHeapArrayedListIterator280<I> iter = new OffHeapArrayedListIterator280<I>(this);
+		iter.position = this.position;
+		return iter;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void goPosition(CursorPosition280 c) throws IllegalArgumentException {
+		if( !(c instanceof OffHeapArrayedListIterator280) )
+			throw new IllegalArgumentException("Argument is not an OffHeapArrayedListIterator280.");
+		OffHeapArrayedListIterator280<I> iter = (OffHeapArrayedListIterator280<I>)c;
+		if( iter.buffer != this.buffer ||
+		    iter.head != this.head ||
+			iter.tail != this.tail )
+			throw new IllegalArgumentException("Iterator list does not match this list.");
+
+		this.position = iter.position;
+	}
+
+	/**
+	 * Delete the first occurrence of x from the list.  The cursor stays on the
+	 * element it was on, or moves to the next element if that element was deleted.
+	 */
+	@Override
+	public void delete(I x) throws ItemNotFound280Exception, ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
+
+		int savePosition = this.position;
+		boolean saveContinue = this.continueSearch;
+		this.continueSearch = false;
+		this.search(x);
+		this.continueSearch = saveContinue;
+		if( !this.itemExists() ) {
+			this.position = savePosition;
+			throw new ItemNotFound280Exception();
+		}
+
+		if( savePosition == this.position || savePosition < 0 ) {
+			this.deleteItem();
+			if( savePosition < 0 ) this.position = savePosition;
+		}
+		else {
+			// Remember the cursor by index, which shifts down if it was after the deleted element.
+			int found = this.mod(this.head - 1 - this.position, this.capacity);
+			int saveIndex = this.mod(this.head - 1 - savePosition, this.capacity);
+			this.deleteItem();
+			if( saveIndex > found ) saveIndex--;
+			this.position = this.mod(this.head - 1 - saveIndex, this.capacity);
+		}
+	}
+
+	@Override
+	public void insert(I x) throws ContainerFull280Exception {
+		insertFirst(x);
+	}
+
+	@Override
+	public I obtain(I y) throws ItemNotFound280Exception {
+		int savePosition = this.position;
+
+		this.search(y);
+		if(!this.itemExists()) {
+			this.position = savePosition;
+			throw new ItemNotFound280Exception();
+		}
+		I result = this.item();
+
+		this.position = savePosition;
+		return result;
+	}
+
+	@Override
+	public boolean has(I y) {
+		int savePosition = this.position;
+
+		this.search(y);
+		boolean result = itemExists();
+
+		this.position = savePosition;
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean membershipEquals(I x, I y) {
+		if ((x instanceof Comparable) && (y instanceof Comparable))
+			return  0==((Comparable<I>)x).compareTo(y);
+		else return x.equals(y);
+	}
+
+	/**
+	 * Delete the record at the cursor by moving the records between it and the
+	 * first element down one slot.  The cursor moves to the next element, or to
+	 * after() if the last element was deleted.
+	 */
+	@Override
+	public void deleteItem() throws NoCurrentItem280Exception {
+		if( !itemExists() )
+			throw new NoCurrentItem280Exception();
+
+		boolean wasLast = this.position == this.tail;
+		for(int i = this.position; i != this.mod(this.head - 1, this.capacity); i = this.mod(i + 1, this.capacity) ) {
+			this.buffer.put(this.offsetOf(i), this.buffer, this.offsetOf(this.mod(i + 1, this.capacity)), this.recordSize);
+		}
+		this.head = this.mod(this.head - 1, this.capacity);
+		this.numEl--;
+
+		// The elements after the cursor did not move.
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else if( wasLast ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, this.capacity);
+		this.modified();
+	}
+
+	@Override
+	public void restartSearches() {
+		continueSearch = false;
+	}
+
+	@Override
+	public void resumeSearches() {
+		continueSearch = true;
+	}
+
+	@Override
+	public void search(I x) {
+		if( this.isEmpty() ) {
+			this.goAfter();
+			return;
+		}
+		if (!continueSearch)
+			goFirst();
+		else if (!after())
+			goForth();
+
+		while (!after() && !membershipEquals(x, item()))
+			goForth();
+	}
+
+	@Override
+	public void clear() {
+		this.head = 0;
+		this.tail = 0;
+		this.numEl = 0;
+		this.position = ArrayedListIterator280.beforePos;
+		this.modified();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.head == this.tail && this.numEl == 0;
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.head == this.tail && this.numEl == this.capacity;
+	}
+
+	/**
+	 * Obtain the number of elements in the list.
+	 *
+	 * @return The number of elements in the list.
+	 */
+	public int count() {
+		return this.numEl;
+	}
+
+	/**
+	 * Obtain the maximum number of elements that can be in the list.
+	 * @return The capacity of the list.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	@Override
+	public String toString() {
+		if( this.isEmpty() ) return "<Empty>";
+
+		StringBuilder result = new StringBuilder();
+		for(int i = 0; i < this.numEl; i++)
+			result.append(this.getItemAtIndex(i)).append(", ");
+		return result.toString();
+	}
+
+	public OffHeapArrayedListIterator280<I> iterator() {
+		return new OffHeapArrayedListIterator280<I>(this);
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		// Records of two fields: an int id at offset 0 and a double value at offset 4.
+		RecordCodec280<Integer> idCodec = new RecordCodec280<Integer>() {
+			public int recordSize() { return 12; }
+			public void write(Integer x, ByteBuffer buffer, int offset) {
+				buffer.putInt(offset, x);
+				buffer.putDouble(offset + 4, x / 2.0);
+			}
+			public Integer read(ByteBuffer buffer, int offset) {
+				return buffer.getInt(offset);
+			}
+		};
+
+		OffHeapArrayedList280<Integer> L = new OffHeapArrayedList280<Integer>(5, idCodec);
+
+		L.insert(5);
+		L.insert(4);
+		L.insertLast(3);
+		L.insertLast(10);
+		L.insertFirst(2);
+
+		System.out.print("List should be full...");
+		if( L.isFull() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.println("List should be: 2, 4, 5, 3, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("Field read in place at index 3 should be 1.5 ....");
+		if( L.getDoubleAtIndex(3, 4) == 1.5 && L.getIntAtIndex(3, 0) == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.println("Adding to tail of full list.");
+		try {
+			L.insertLast(3);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerFull280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.search(3);
+		L.delete(4);
+		System.out.print("cursor should still be at 3 ....");
+		if( L.itemInt(0) == 3 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.print("has(4) should be false and has(10) should be true ....");
+		if( !L.has(4) && L.has(10) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		System.out.print("obtain(10) should be 10 ....");
+		if( L.obtain(10) == 10 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.deleteFirst();
+		L.deleteLast();
+		L.insertLast(7);
+		System.out.println("List should be: 5, 3, 7, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		OffHeapArrayedListIterator280<Integer> iter = L.iterator();
+		iter.goFirst();
+		int sum = 0;
+		while( iter.itemExists() ) {
+			sum += iter.item();
+			iter.goForth();
+		}
+		System.out.print("Sum of list should be 15 ....");
+		if( sum == 15 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.clear();
+		System.out.print("List should be empty...");
+		if( L.isEmpty() ) System.out.println("and it is.");
+		else System.out.println("ERROR: and it is *NOT*.");
+	}
+}
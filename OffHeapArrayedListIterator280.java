@@ -0,0 +1,118 @@
+package lib280.list;
+
+import java.nio.ByteBuffer;
+
+import lib280.base.LinearIterator280;
+import lib280.exception.AfterTheEnd280Exception;
+import lib280.exception.NoCurrentItem280Exception;
+
+/**
+ * An iterator over an OffHeapArrayedList280.  It records the head, tail and count
+ * of the list when it is created and walks the records from head toward tail.
+ */
+public class OffHeapArrayedListIterator280<I> implements LinearIterator280<I> {
+
+	/**
+	 * Buffer where the records are stored.
+	 */
+	protected ByteBuffer buffer;
+
+	/**
+	 * Byte offset in buffer of the record in slot 0.
+	 */
+	protected int dataOffset;
+
+	/**
+	 * Converts records to items.
+	 */
+	protected RecordCodec280<I> codec;
+
+	/**
+	 * Indices of the beginning and end of the list.
+	 */
+	protected int head, tail;
+
+	/**
+	 * Number of record slots in the list.
+	 */
+	protected int capacity;
+
+	/**
+	 * Number of Elements in the list
+	 */
+	protected int numEl;
+
+	/**
+	 * Slot of the cursor.
+	 */
+	protected int position;
+
+	/**
+	 * Initialize an iterator in the before position.
+	 * @param list The list to iterate over.
+	 */
+	public OffHeapArrayedListIterator280(OffHeapArrayedList280<I> list) {
+		this.buffer = list.buffer;
+		this.dataOffset = list.dataOffset;
+		this.codec = list.codec;
+		this.head = list.head;
+		this.tail = list.tail;
+		this.capacity = list.capacity;
+		this.numEl = list.numEl;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+
+	private int mod( int a, int b ) {
+		return ((a % b) + b) % b;
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !itemExists() ) throw new NoCurrentItem280Exception();
+
+		return this.codec.read(this.buffer, this.dataOffset + this.position * this.codec.recordSize());
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position != ArrayedListIterator280.beforePos && this.position != ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.position == ArrayedListIterator280.afterPos ) throw new AfterTheEnd280Exception();
+		else if( this.position == ArrayedListIterator280.beforePos ) this.goFirst();
+		else if( this.position == this.tail ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, this.capacity);
+	}
+
+	/**
+	 * Go to the first element, or to after() if the list is empty.
+	 */
+	@Override
+	public void goFirst() {
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.head-1, this.capacity);
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+}
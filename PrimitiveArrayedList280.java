@@ -0,0 +1,475 @@
+package lib280.list;
+
+import lib280.exception.*;
+
+/**
+ * The circular layout, growth and cursor logic shared by the arrayed lists of
+ * primitive values, IntArrayedList280, LongArrayedList280 and DoubleArrayedList280.
+ * It works as ArrayedList280 does: the first element is in slot head-1 and the
+ * elements run down the array to slot tail, wrapping from slot 0 to the top.
+ *
+ * Subclasses own the typed array and everything that reads or writes an element;
+ * this class only moves elements with System.arraycopy, so it never boxes them.
+ *
+ * @see ArrayedList280
+ */
+public abstract class PrimitiveArrayedList280 implements Cloneable {
+
+	/**
+	 * Indices of the beginning and end of the list.
+	 * List is empty when head = tail and count() == 0.  List is full when
+	 * head = tail and count() == capacity.
+	 */
+	protected int head, tail;
+
+	/**
+	 * Size of the array, maximum number of elements in the list.
+	 */
+	protected int capacity;
+
+	/**
+	 * Index of the position of the cursor.
+	 */
+	protected int position;
+
+	/**
+	 * Number of elements in the list
+	 */
+	protected int numEl;
+
+	/**
+	 * Do searches continue or start anew?
+	 */
+	protected boolean continueSearch;
+
+	/**
+	 * Does the list grow instead of becoming full?
+	 */
+	protected boolean growable;
+
+	/**
+	 * Does a growable list give memory back when it becomes sparse?
+	 */
+	protected boolean shrinkable;
+
+	/**
+	 * Capacity the list was created with.  A growable list never shrinks below this.
+	 */
+	protected int minCapacity;
+
+
+	protected int mod( int a, int b ) {
+		return ((a % b) + b) % b;
+	}
+
+	/**
+	 * Create a new, empty list.  The subclass allocates the array.
+	 * @param capacity The initial number of elements the list can hold.
+	 * @param growable If true, the capacity doubles whenever an insertion is made
+	 *                 into a full list, and the list is never full.
+	 */
+	protected PrimitiveArrayedList280(int capacity, boolean growable) {
+		this.head = 0;
+		this.tail = 0;
+		this.capacity = capacity;
+		this.minCapacity = capacity;
+		this.growable = growable;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	/**
+	 * The array where the elements are stored.
+	 */
+	protected abstract Object elements();
+
+	/**
+	 * Replace the array where the elements are stored by a new, empty one of length n.
+	 * @return the new array.
+	 */
+	protected abstract Object newElements(int n);
+
+	/**
+	 * Slot that holds the element at index idx, without bounds checking.
+	 */
+	protected int slotOf(int idx) {
+		return this.mod(this.head - 1 - idx, this.capacity);
+	}
+
+	/**
+	 * Index of the element in slot s.
+	 */
+	protected int indexOfSlot(int s) {
+		return this.mod(this.head - 1 - s, this.capacity);
+	}
+
+	/**
+	 * Check that idx is the index of an element.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 */
+	protected void checkIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+	}
+
+	/**
+	 * Is the list growable?
+	 * @return true if the list grows on demand, false if it has a fixed capacity.
+	 */
+	public boolean isGrowable() {
+		return this.growable;
+	}
+
+	/**
+	 * Set whether a growable list halves its capacity when it becomes a quarter full.
+	 * @param shrinkable true to enable shrinking, false to disable it.
+	 * @precond isGrowable()
+	 * @throws InvalidState280Exception if the list is not growable.
+	 */
+	public void setShrinkable(boolean shrinkable) throws InvalidState280Exception {
+		if( !this.growable ) throw new InvalidState280Exception("Only a growable list can shrink.");
+		this.shrinkable = shrinkable;
+	}
+
+	/**
+	 * Make sure the list can hold at least n elements without growing.
+	 * @param n Number of elements the list must be able to hold.
+	 * @precond isGrowable() or n <= capacity()
+	 * @throws ContainerFull280Exception if the list is not growable and n exceeds its capacity.
+	 */
+	public void ensureCapacity(int n) throws ContainerFull280Exception {
+		if( n <= this.capacity ) return;
+		if( !this.growable ) throw new ContainerFull280Exception("List cannot hold " + n + " elements.");
+
+		int newCapacity = Math.max(this.capacity * 2, 1);
+		while( newCapacity < n ) {
+			newCapacity = newCapacity * 2;
+			if( newCapacity < 0 ) { newCapacity = Integer.MAX_VALUE - 8; break; }
+		}
+		this.resize(newCapacity);
+	}
+
+	/**
+	 * Halve the capacity of a shrinkable list that has become a quarter full.
+	 */
+	protected void shrinkIfSparse() {
+		if( this.shrinkable && this.numEl <= this.capacity / 4 && this.capacity / 2 >= this.minCapacity )
+			this.resize(this.capacity / 2);
+	}
+
+	/**
+	 * Move the elements into a new array of size newCapacity, unwrapping the circular
+	 * layout as ArrayedList280.resize() does.  The cursor stays on the same element.
+	 * @param newCapacity Size of the new array.
+	 * @precond newCapacity >= count()
+	 */
+	protected void resize(int newCapacity) {
+		Object oldElements = this.elements();
+		Object newElements = this.newElements(newCapacity);
+		if( this.numEl > 0 ) {
+			if( this.tail < this.head )
+				System.arraycopy(oldElements, this.tail, newElements, 0, this.numEl);
+			else {
+				int firstPart = this.capacity - this.tail;
+				System.arraycopy(oldElements, this.tail, newElements, 0, firstPart);
+				System.arraycopy(oldElements, 0, newElements, firstPart, this.head);
+			}
+		}
+
+		if( this.position >= 0 && this.numEl > 0 ) {
+			int index = this.indexOfSlot(this.position);
+			if( index < this.numEl ) this.position = this.numEl - 1 - index;
+			else this.position = ArrayedListIterator280.afterPos;
+		}
+
+		this.capacity = newCapacity;
+		this.tail = 0;
+		this.head = this.numEl % newCapacity;
+	}
+
+	/**
+	 * Make room for a new element, growing the array of a growable list that is full.
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	protected void prepareInsert() throws ContainerFull280Exception {
+		if(this.isFull()) throw new ContainerFull280Exception();
+		if(this.numEl == this.capacity) this.ensureCapacity(this.numEl + 1);
+	}
+
+	/**
+	 * Claim the slot in front of the first element for a new first element.
+	 * @return the slot of the new first element.
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	protected int claimFirst() throws ContainerFull280Exception {
+		this.prepareInsert();
+		int slot = this.head;
+		this.head = this.mod( this.head + 1, this.capacity);
+		this.numEl++;
+		return slot;
+	}
+
+	/**
+	 * Claim the slot behind the last element for a new last element.
+	 * @return the slot of the new last element.
+	 * @throws ContainerFull280Exception if the list is full.
+	 */
+	protected int claimLast() throws ContainerFull280Exception {
+		this.prepareInsert();
+		this.tail = this.mod(this.tail - 1, this.capacity);
+		this.numEl++;
+		return this.tail;
+	}
+
+	/**
+	 * Delete the first element in the list.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 */
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		if(isEmpty()) throw new ContainerEmpty280Exception();
+
+		// If the cursor is on the first item, move it to the second.
+		if( this.position == this.mod(this.head - 1, this.capacity) )
+			this.position = this.mod(this.head - 2, this.capacity);
+
+		this.head = this.mod(this.head - 1, this.capacity);
+		this.numEl--;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+
+	/**
+	 * Delete the last element in the list.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 */
+	public void deleteLast() throws ContainerEmpty280Exception {
+		if(isEmpty()) throw new ContainerEmpty280Exception();
+
+		// If the cursor is on the last item, we have to move it.
+		if( this.position == this.tail )
+			this.position = this.mod(this.tail + 1,  this.capacity);
+
+		this.tail = this.mod(this.tail + 1,  this.capacity);
+		this.numEl--;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+
+	/**
+	 * Delete the first n elements in the list by moving head.  A cursor on a
+	 * deleted element moves to the new first element.
+	 * @param n Number of elements to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 * @timing O(1), plus the cost of shrinking a growable list.
+	 */
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == 0 ) return;
+
+		if( this.itemExists() && this.indexOfSlot(this.position) < n )
+			this.position = this.mod(this.head - 1 - n, this.capacity);
+
+		this.head = this.mod(this.head - n, this.capacity);
+		this.numEl -= n;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+
+	/**
+	 * Delete the last n elements in the list by moving tail.  A cursor on a
+	 * deleted element moves to the new last element.
+	 * @param n Number of elements to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n elements.
+	 * @timing O(1), plus the cost of shrinking a growable list.
+	 */
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+		if( n == 0 ) return;
+
+		if( this.itemExists() && this.indexOfSlot(this.position) >= this.numEl - n )
+			this.position = this.mod(this.tail + n, this.capacity);
+
+		this.tail = this.mod(this.tail + n, this.capacity);
+		this.numEl -= n;
+
+		if( isEmpty() ) this.position = ArrayedListIterator280.beforePos;
+		else this.shrinkIfSparse();
+	}
+
+	/**
+	 * Delete the element at the cursor by moving the elements between it and the
+	 * first element down one slot.  The cursor moves to the next element, or to
+	 * after() if the last element was deleted.
+	 * @precond itemExists()
+	 * @throws NoCurrentItem280Exception if there is no item at the cursor.
+	 */
+	public void deleteItem() throws NoCurrentItem280Exception {
+		if( !itemExists() )
+			throw new NoCurrentItem280Exception();
+
+		// Slots position+1 to head-1 move down one slot, in at most three copies
+		// because the run can wrap from the top of the array to slot 0.
+		Object a = this.elements();
+		int p = this.position;
+		int m = this.mod(this.head - 1 - p, this.capacity);
+		int first = Math.min(m, this.capacity - 1 - p);
+		System.arraycopy(a, p + 1, a, p, first);
+		if( first < m ) {
+			System.arraycopy(a, 0, a, this.capacity - 1, 1);
+			System.arraycopy(a, 1, a, 0, m - first - 1);
+		}
+
+		boolean wasLast = this.position == this.tail;
+		this.head = this.mod(this.head - 1, this.capacity);
+		this.numEl--;
+
+		// The elements after the cursor did not move.
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.beforePos;
+		else if( wasLast ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, this.capacity);
+		if( this.numEl > 0 ) this.shrinkIfSparse();
+	}
+
+	/**
+	 * Delete the element at index found.  The cursor stays on the element it was
+	 * on, or moves to the next element if that element was deleted.
+	 */
+	protected void deleteAtIndex(int found) {
+		int savePosition = this.position;
+		this.position = this.slotOf(found);
+		if( savePosition == this.position || savePosition < 0 ) {
+			this.deleteItem();
+			if( savePosition < 0 ) this.position = savePosition;
+		}
+		else {
+			// Remember the cursor by index, which shifts down if it was after the deleted element.
+			int saveIndex = this.indexOfSlot(savePosition);
+			this.deleteItem();
+			if( saveIndex > found ) saveIndex--;
+			this.position = this.slotOf(saveIndex);
+		}
+	}
+
+	/**
+	 * Index at which search() starts looking, or -1 if a resumed search is already after().
+	 */
+	protected int searchStart() {
+		if( !this.continueSearch ) return 0;
+		if( this.after() ) return -1;
+		return this.itemExists() ? this.indexOfSlot(this.position) + 1 : 0;
+	}
+
+	/**
+	 * Move the cursor to the element at index found, or to after() if found is negative.
+	 */
+	protected void goFound(int found) {
+		if( found < 0 ) this.goAfter();
+		else this.position = this.slotOf(found);
+	}
+
+	public boolean itemExists() {
+		return this.position != ArrayedListIterator280.beforePos && this.position != ArrayedListIterator280.afterPos;
+	}
+
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	/**
+	 * Move the cursor to the first element.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the list is empty.
+	 */
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( isEmpty() ) throw new ContainerEmpty280Exception();
+		this.position = this.mod(this.head-1, capacity);
+	}
+
+	/**
+	 * Advance the cursor to the next element.
+	 * @precond !after()
+	 * @throws AfterTheEnd280Exception if the cursor is already after the end.
+	 */
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.position == ArrayedListIterator280.afterPos )
+			throw new AfterTheEnd280Exception();
+		else if( this.position == ArrayedListIterator280.beforePos ) {
+			if( this.isEmpty() ) this.position = ArrayedListIterator280.afterPos;
+			else this.position = this.mod(this.head - 1, capacity);
+		}
+		else if( this.position == this.tail ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, capacity);
+	}
+
+	/**
+	 * Go to the position in the list specified by iter.
+	 * @param iter position to which to go
+	 * @throws IllegalArgumentException if iter is not a position in this list.
+	 */
+	protected void goPosition(PrimitiveArrayedListIterator280 iter) throws IllegalArgumentException {
+		if( iter.capacity != this.capacity ||
+		    iter.head != this.head ||
+			iter.tail != this.tail )
+			throw new IllegalArgumentException("Iterator list does not match this list.");
+
+		this.position = iter.position;
+	}
+
+	public void restartSearches() {
+		continueSearch = false;
+	}
+
+	public void resumeSearches() {
+		continueSearch = true;
+	}
+
+	public void clear() {
+		this.head = 0;
+		this.tail = 0;
+		this.numEl = 0;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	public boolean isEmpty() {
+		return this.head == this.tail && this.numEl == 0;
+	}
+
+	public boolean isFull() {
+		return !this.growable && this.head == this.tail && this.numEl == this.capacity;
+	}
+
+	/**
+	 * Obtain the number of elements in the list.
+	 *
+	 * @return The number of elements in the list.
+	 */
+	public int count() {
+		return this.numEl;
+	}
+
+	/**
+	 * Obtain the maximum number of elements that can be in the list.
+	 * @return The capacity of the list.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+}
@@ -0,0 +1,104 @@
+package lib280.list;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.AfterTheEnd280Exception;
+
+/**
+ * The cursor logic shared by the iterators over arrayed lists of primitive
+ * values.  Like ArrayedListIterator280, it walks the circular array from head
+ * toward tail.  Subclasses hold the typed array and return its elements.
+ */
+public abstract class PrimitiveArrayedListIterator280 implements CursorPosition280, Cloneable {
+
+	/**
+	 * Indices of the beginning and end of the list.
+	 */
+	protected int head, tail;
+
+	/**
+	 * Size of the array, maximum number of elements in the list.
+	 */
+	protected int capacity;
+
+	/**
+	 * Number of Elements in the list
+	 */
+	protected int numEl;
+
+	/**
+	 * Index of the position of the cursor.
+	 */
+	protected int position;
+
+	/**
+	 * Initialize an iterator.
+	 * @param head The index of the current head of the list.
+	 * @param tail The index of the current tail of the list.
+	 * @param capacity The length of the list's array.
+	 * @param numEl The number of elements in the list.
+	 */
+	protected PrimitiveArrayedListIterator280(int head, int tail, int capacity, int numEl) {
+		this.head = head;
+		this.tail = tail;
+		this.capacity = capacity;
+		this.numEl = numEl;
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+
+	private int mod( int a, int b ) {
+		return ((a % b) + b) % b;
+	}
+
+
+	public boolean itemExists() {
+		return this.position != ArrayedListIterator280.beforePos && this.position != ArrayedListIterator280.afterPos;
+	}
+
+	public boolean before() {
+		return this.position == ArrayedListIterator280.beforePos;
+	}
+
+	public boolean after() {
+		return this.position == ArrayedListIterator280.afterPos;
+	}
+
+	/**
+	 * Advance to the next element.
+	 * @precond !after()
+	 * @throws AfterTheEnd280Exception if the iterator is already after the end.
+	 */
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.position == ArrayedListIterator280.afterPos ) throw new AfterTheEnd280Exception();
+		else if( this.position == ArrayedListIterator280.beforePos ) this.goFirst();
+		else if( this.position == this.tail ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.position - 1, this.capacity);
+	}
+
+	/**
+	 * Go to the first element, or to after() if the list is empty.
+	 */
+	public void goFirst() {
+		if( this.numEl == 0 ) this.position = ArrayedListIterator280.afterPos;
+		else this.position = this.mod(this.head-1, this.capacity);
+	}
+
+	public void goBefore() {
+		this.position = ArrayedListIterator280.beforePos;
+	}
+
+	public void goAfter() {
+		this.position = ArrayedListIterator280.afterPos;
+	}
+
+	@Override
+	public PrimitiveArrayedListIterator280 clone() {
+		try {
+			return (PrimitiveArrayedListIterator280) super.clone();
+		} catch (CloneNotSupportedException e) {
+			// Should not occur: implements Cloneable
+			e.printStackTrace();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/* RecordCodec280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.nio.ByteBuffer;
+
+/**	Converts items to and from fixed-size records in a ByteBuffer.
+	Used by lists that keep their elements outside the Java heap. */
+public interface RecordCodec280<I>
+{
+	/**	Number of bytes in every record.  Must be positive and must not change. */
+	public int recordSize();
+
+	/**	Write x into buffer as the record that starts at byte offset.
+		@param x item to be written
+		@param buffer buffer that holds the records
+		@param offset index of the first byte of the record */
+	public void write(I x, ByteBuffer buffer, int offset);
+
+	/**	Read the record that starts at byte offset and return it as a new item.
+		@param buffer buffer that holds the records
+		@param offset index of the first byte of the record
+		@return the item stored in the record */
+	public I read(ByteBuffer buffer, int offset);
+}
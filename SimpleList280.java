@@ -54,6 +54,20 @@ public interface SimpleList280<I> extends Dict280<I>
      */
 	public void deleteLast() throws ContainerEmpty280Exception;
 
+	/**	Delete the first n items from the list.
+	 * @precond	n <= count
+	 * @param n number of items to delete
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+     */
+	public void deleteFirst(int n) throws ContainerEmpty280Exception;
+
+	/**	Delete the last n items from the list.
+	 * @precond	n <= count
+	 * @param n number of items to delete
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+     */
+	public void deleteLast(int n) throws ContainerEmpty280Exception;
+
 	
 	/**	A shallow clone of the current container. */
 	public SimpleList280<I> clone() throws CloneNotSupportedException;
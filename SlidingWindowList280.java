@@ -0,0 +1,318 @@
+/* SlidingWindowList280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.util.function.LongSupplier;
+
+import lib280.exception.ContainerEmpty280Exception;
+import lib280.exception.InvalidArgument280Exception;
+
+/**
+ * A list of timestamped values that only keeps the values inserted during the
+ * most recent window of time, and maintains their count, sum, minimum and
+ * maximum as values come and go, so that none of these needs a scan.
+ *
+ * Values and timestamps are kept in growable DoubleArrayedList280 and
+ * LongArrayedList280 lists, oldest first.  An entry with timestamp t expires once
+ * the current time reaches t + window.  Expired entries are found by binary
+ * search over the timestamps, which never decrease, and removed from the front.
+ *
+ * The minimum and maximum are kept with monotonic deques: lists of entry numbers
+ * whose values increase (for the minimum) or decrease (for the maximum) from
+ * front to back.  A new value removes every entry from the back of a deque that
+ * it makes irrelevant, and an expiring entry is removed from the front if it is
+ * there, so the answer is always the value of the first entry of the deque.
+ * Each entry enters and leaves each deque once, so this is O(1) amortized.
+ *
+ * The sum is updated by adding and subtracting values, so with values that are
+ * not whole numbers it can drift from the exact sum by rounding error.
+ */
+public class SlidingWindowList280 {
+
+	/**
+	 * Values in the window, oldest first.
+	 */
+	protected DoubleArrayedList280 values;
+
+	/**
+	 * Timestamps of the values, oldest first.
+	 */
+	protected LongArrayedList280 timestamps;
+
+	/**
+	 * Entry numbers whose values increase from front to back; the first is the minimum.
+	 */
+	protected LongArrayedList280 minDeque;
+
+	/**
+	 * Entry numbers whose values decrease from front to back; the first is the maximum.
+	 */
+	protected LongArrayedList280 maxDeque;
+
+	/**
+	 * Entry number of the oldest value in the window.  Entries are numbered in
+	 * insertion order from 0, so entry e is at index e - firstEntry of values.
+	 */
+	protected long firstEntry;
+
+	/**
+	 * Sum of the values in the window.
+	 */
+	protected double sum;
+
+	/**
+	 * Length of the window, in the units of the timestamps.
+	 */
+	protected long window;
+
+	/**
+	 * Source of timestamps for insertLast(double) and evictExpired().
+	 */
+	protected LongSupplier clock;
+
+
+	/**
+	 * Create an empty window that timestamps values with System.currentTimeMillis().
+	 * @param windowMillis Length of the window in milliseconds.
+	 */
+	public SlidingWindowList280(long windowMillis) {
+		this(windowMillis, System::currentTimeMillis);
+	}
+
+	/**
+	 * Create an empty window.
+	 * @param window Length of the window, in the units of clock.
+	 * @param clock Source of timestamps for insertLast(double) and evictExpired().
+	 * @throws InvalidArgument280Exception if window is not positive.
+	 */
+	public SlidingWindowList280(long window, LongSupplier clock) throws InvalidArgument280Exception {
+		if( window <= 0 ) throw new InvalidArgument280Exception("Window length must be positive.");
+		this.window = window;
+		this.clock = clock;
+		this.values = new DoubleArrayedList280(16, true);
+		this.timestamps = new LongArrayedList280(16, true);
+		this.minDeque = new LongArrayedList280(16, true);
+		this.maxDeque = new LongArrayedList280(16, true);
+	}
+
+	/**
+	 * The value of entry e, which must be in the window.
+	 */
+	private double valueOf(long e) {
+		return this.values.getItemAtIndex((int) (e - this.firstEntry));
+	}
+
+	/**
+	 * Insert value with the current time of the clock, evicting any entries that have expired.
+	 * @param value Value to insert.
+	 */
+	public void insertLast(double value) {
+		this.insertLast(this.clock.getAsLong(), value);
+	}
+
+	/**
+	 * Insert value with the given timestamp, evicting any entries that have expired by then.
+	 * @param timestamp Time of the value; must not be less than that of the last value.
+	 * @param value Value to insert.
+	 * @throws InvalidArgument280Exception if timestamp is earlier than the last timestamp.
+	 * @timing O(1) amortized, plus O(k) to evict k entries.
+	 */
+	public void insertLast(long timestamp, double value) throws InvalidArgument280Exception {
+		if( !this.timestamps.isEmpty() && timestamp < this.timestamps.lastItem() )
+			throw new InvalidArgument280Exception("Timestamp " + timestamp + " is earlier than the last timestamp " + this.timestamps.lastItem() + ".");
+		this.evictExpired(timestamp);
+
+		long e = this.firstEntry + this.values.count();
+		while( !this.minDeque.isEmpty() && this.valueOf(this.minDeque.lastItem()) > value ) this.minDeque.deleteLast();
+		while( !this.maxDeque.isEmpty() && this.valueOf(this.maxDeque.lastItem()) < value ) this.maxDeque.deleteLast();
+		this.minDeque.insertLast(e);
+		this.maxDeque.insertLast(e);
+
+		this.values.insertLast(value);
+		this.timestamps.insertLast(timestamp);
+		this.sum += value;
+	}
+
+	/**
+	 * Remove the entries that have expired by the current time of the clock.
+	 */
+	public void evictExpired() {
+		this.evictExpired(this.clock.getAsLong());
+	}
+
+	/**
+	 * Remove the entries that have expired by time now, that is, those with timestamps
+	 * no later than now - window.
+	 * @param now The current time.
+	 * @return the number of entries removed.
+	 * @timing O(log n) to find the expired entries plus O(k) to subtract them from the sum.
+	 */
+	public int evictExpired(long now) {
+		long cutoff = now - this.window;
+
+		// Number of timestamps <= cutoff.
+		int lo = 0, hi = this.timestamps.count();
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( this.timestamps.getItemAtIndex(mid) <= cutoff ) lo = mid + 1;
+			else hi = mid;
+		}
+		int k = lo;
+		if( k == 0 ) return 0;
+
+		for(int i = 0; i < k; i++) this.sum -= this.values.getItemAtIndex(i);
+		this.values.deleteFirst(k);
+		this.timestamps.deleteFirst(k);
+		this.firstEntry += k;
+		while( !this.minDeque.isEmpty() && this.minDeque.firstItem() < this.firstEntry ) this.minDeque.deleteFirst();
+		while( !this.maxDeque.isEmpty() && this.maxDeque.firstItem() < this.firstEntry ) this.maxDeque.deleteFirst();
+		if( this.values.isEmpty() ) this.sum = 0;
+		return k;
+	}
+
+	/**
+	 * Number of values in the window.
+	 */
+	public int count() {
+		return this.values.count();
+	}
+
+	public boolean isEmpty() {
+		return this.values.isEmpty();
+	}
+
+	/**
+	 * Sum of the values in the window, or 0 if it is empty.
+	 */
+	public double sum() {
+		return this.sum;
+	}
+
+	/**
+	 * Mean of the values in the window.
+	 * @throws ContainerEmpty280Exception if the window is empty.
+	 */
+	public double mean() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot get the mean of an empty window.");
+		return this.sum / this.values.count();
+	}
+
+	/**
+	 * Smallest value in the window.
+	 * @throws ContainerEmpty280Exception if the window is empty.
+	 * @timing O(1)
+	 */
+	public double min() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot get the minimum of an empty window.");
+		return this.valueOf(this.minDeque.firstItem());
+	}
+
+	/**
+	 * Largest value in the window.
+	 * @throws ContainerEmpty280Exception if the window is empty.
+	 * @timing O(1)
+	 */
+	public double max() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot get the maximum of an empty window.");
+		return this.valueOf(this.maxDeque.firstItem());
+	}
+
+	/**
+	 * Length of the window, in the units of the timestamps.
+	 */
+	public long window() {
+		return this.window;
+	}
+
+	/**
+	 * Remove every value from the window.
+	 */
+	public void clear() {
+		this.firstEntry += this.values.count();
+		this.values.clear();
+		this.timestamps.clear();
+		this.minDeque.clear();
+		this.maxDeque.clear();
+		this.sum = 0;
+	}
+
+	public String toString() {
+		return this.values.toString();
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		final long[] now = {0};
+		SlidingWindowList280 W = new SlidingWindowList280(10, () -> now[0]);
+
+		System.out.println("Getting the maximum of an empty window.");
+		try {
+			W.max();
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		W.insertLast(1, 5);
+		W.insertLast(2, 3);
+		W.insertLast(4, 8);
+		W.insertLast(6, 1);
+		W.insertLast(8, 4);
+		System.out.print("count 5, sum 21, min 1, max 8 ....");
+		if( W.count() == 5 && W.sum() == 21 && W.min() == 1 && W.max() == 8 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		// At time 14 the entries at 1, 2 and 4 have expired.
+		W.insertLast(14, 2);
+		System.out.print("after time 14: count 3, sum 7, min 1, max 4 ....");
+		if( W.count() == 3 && W.sum() == 7 && W.min() == 1 && W.max() == 4 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		now[0] = 18;
+		W.evictExpired();
+		System.out.print("after time 18: count 1, min 2, max 2 ....");
+		if( W.count() == 1 && W.min() == 2 && W.max() == 2 && W.mean() == 2 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		System.out.println("Inserting an earlier timestamp.");
+		try {
+			W.insertLast(13, 0);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		// Compare against a scan of the window.
+		SlidingWindowList280 S = new SlidingWindowList280(50, () -> now[0]);
+		java.util.Random r = new java.util.Random(280);
+		long[] ts = new long[5000];
+		double[] vs = new double[5000];
+		boolean ok = true;
+		for(int i = 0; i < 5000; i++) {
+			ts[i] = (i == 0 ? 0 : ts[i-1]) + r.nextInt(4);
+			vs[i] = r.nextInt(1000);
+			S.insertLast(ts[i], vs[i]);
+			double mn = Double.MAX_VALUE, mx = -Double.MAX_VALUE, sm = 0;
+			int c = 0;
+			for(int j = i; j >= 0 && ts[j] > ts[i] - 50; j--) {
+				mn = Math.min(mn, vs[j]);
+				mx = Math.max(mx, vs[j]);
+				sm += vs[j];
+				c++;
+			}
+			if( S.count() != c || S.sum() != sm || S.min() != mn || S.max() != mx ) ok = false;
+		}
+		System.out.print("aggregates should match a scan of the window ....");
+		if( ok ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+	}
+}
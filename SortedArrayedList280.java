@@ -0,0 +1,363 @@
+/* SortedArrayedList280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import lib280.exception.*;
+
+/**
+ * An arrayed list that keeps its elements in non-decreasing order.  The items
+ * must be Comparable, and are ordered and matched by compareTo().  The elements
+ * stay in the circular array of ArrayedList280; insert() shifts the elements on
+ * whichever side of the new element is shorter, and search(), has() and obtain()
+ * use binary search over list indices instead of a linear scan.
+ *
+ * @param <I> Type of the items in the list; must implement Comparable.
+ */
+public class SortedArrayedList280<I> extends ArrayedList280<I> {
+
+	private int mod( int a, int b ) {
+		return ((a % b) + b) % b;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(I x, I y) {
+		return ((Comparable<? super I>) x).compareTo(y);
+	}
+
+	/**
+	 * Create a new, empty sorted list.
+	 * @param capacity The maximum number of elements in the list.
+	 */
+	public SortedArrayedList280(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Create a new, empty sorted list.
+	 * @param capacity The initial number of elements the list can hold.
+	 * @param growable If true, the list grows instead of becoming full.
+	 */
+	public SortedArrayedList280(int capacity, boolean growable) {
+		super(capacity, growable);
+	}
+
+	/**
+	 * The element at index idx, without bounds checking.
+	 */
+	private I itemAt(int idx) {
+		return this.listElements[this.mod(this.head - idx - 1, this.capacity)];
+	}
+
+	/**
+	 * Index of the first element that is not less than x, or count() if there is none.
+	 * @timing O(log n)
+	 */
+	protected int lowerBound(I x) {
+		return this.lowerBound(x, 0);
+	}
+
+	/**
+	 * Index of the first element from index from on that is not less than x, or
+	 * count() if there is none.
+	 * @timing O(log n)
+	 */
+	protected int lowerBound(I x, int from) {
+		int lo = from, hi = this.numEl;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( this.compare(this.itemAt(mid), x) < 0 ) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Index of the first element that is greater than x, or count() if there is none.
+	 * @timing O(log n)
+	 */
+	protected int upperBound(I x) {
+		int lo = 0, hi = this.numEl;
+		while( lo < hi ) {
+			int mid = (lo + hi) >>> 1;
+			if( this.compare(this.itemAt(mid), x) <= 0 ) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Insert x after any elements that are equal to it, shifting the elements
+	 * before or after the new position, whichever are fewer.  The cursor stays on
+	 * the element it was on.
+	 * @param x item to be inserted
+	 * @precond !isFull()
+	 * @throws ContainerFull280Exception if the list is full.
+	 * @timing O(log n) to find the position plus O(min(k, n-k)) to make room at index k.
+	 */
+	@Override
+	public void insert(I x) throws ContainerFull280Exception {
+		if( this.isFull() ) throw new ContainerFull280Exception();
+		if( this.numEl == this.capacity ) this.ensureCapacity(this.numEl + 1);
+		this.unshare();
+
+		int k = this.upperBound(x);
+
+		// Remember the cursor by index, since its element may move.
+		int cursorIdx = -1;
+		if( this.itemExists() ) cursorIdx = this.mod(this.head - 1 - this.position, this.capacity);
+
+		int slot;
+		if( k < this.numEl - k ) {
+			// Move elements 0..k-1 one slot toward head.
+			this.shiftSlots(this.mod(this.head - k, this.capacity), k, 1);
+			slot = this.mod(this.head - k, this.capacity);
+			this.head = this.mod(this.head + 1, this.capacity);
+		}
+		else {
+			// Move elements k..count()-1 one slot toward tail.
+			this.shiftSlots(this.tail, this.numEl - k, -1);
+			slot = this.mod(this.head - 1 - k, this.capacity);
+			this.tail = this.mod(this.tail - 1, this.capacity);
+		}
+		this.listElements[slot] = x;
+		if( this.index != null ) this.index.add(x, slot);
+		if( k == 0 ) this.firstSeq--;
+		else if( k < this.numEl ) this.layoutVersion++;
+		this.numEl++;
+
+		if( cursorIdx >= 0 ) {
+			if( cursorIdx >= k ) cursorIdx++;
+			this.position = this.mod(this.head - 1 - cursorIdx, this.capacity);
+		}
+	}
+
+	/**
+	 * Insert x as the first element in the list.
+	 * @precond !isFull() and x is not greater than the first element.
+	 * @throws InvalidArgument280Exception if x would be out of order at the front of the list.
+	 */
+	@Override
+	public void insertFirst(I x) throws ContainerFull280Exception, InvalidArgument280Exception {
+		if( !this.isEmpty() && this.compare(x, this.firstItem()) > 0 )
+			throw new InvalidArgument280Exception("Inserting " + x + " first would leave the list out of order.");
+		super.insertFirst(x);
+	}
+
+	/**
+	 * Insert x as the last element in the list.
+	 * @precond !isFull() and x is not less than the last element.
+	 * @throws InvalidArgument280Exception if x would be out of order at the end of the list.
+	 */
+	@Override
+	public void insertLast(I x) throws ContainerFull280Exception, InvalidArgument280Exception {
+		if( !this.isEmpty() && this.compare(x, this.lastItem()) < 0 )
+			throw new InvalidArgument280Exception("Inserting " + x + " last would leave the list out of order.");
+		super.insertLast(x);
+	}
+
+	/**
+	 * Check that items are in order and could follow lo and precede hi, either of which may be null.
+	 * @throws InvalidArgument280Exception if inserting items between lo and hi would leave the list out of order.
+	 */
+	private void checkRun(I lo, I[] items, I hi) throws InvalidArgument280Exception {
+		for(int i = 0; i < items.length; i++) {
+			I prev = i == 0 ? lo : items[i-1];
+			if( prev != null && this.compare(prev, items[i]) > 0 )
+				throw new InvalidArgument280Exception("Inserting " + items[i] + " after " + prev + " would leave the list out of order.");
+		}
+		if( hi != null && items.length > 0 && this.compare(items[items.length-1], hi) > 0 )
+			throw new InvalidArgument280Exception("Inserting " + items[items.length-1] + " before " + hi + " would leave the list out of order.");
+	}
+
+	/**
+	 * Insert all of the items at the beginning of the list.
+	 * @precond items are in order and none is greater than the first element.
+	 * @throws InvalidArgument280Exception if the items would be out of order; nothing is inserted.
+	 */
+	@Override
+	public void insertAllFirst(I[] items) throws ContainerFull280Exception, InvalidArgument280Exception {
+		this.checkRun(null, items, this.isEmpty() ? null : this.firstItem());
+		super.insertAllFirst(items);
+	}
+
+	/**
+	 * Insert all of the items at the end of the list.
+	 * @precond items are in order and none is less than the last element.
+	 * @throws InvalidArgument280Exception if the items would be out of order; nothing is inserted.
+	 */
+	@Override
+	public void insertAllLast(I[] items) throws ContainerFull280Exception, InvalidArgument280Exception {
+		this.checkRun(this.isEmpty() ? null : this.lastItem(), items, null);
+		super.insertAllLast(items);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void insertAllFirst(SimpleList280<? extends I> list) throws ContainerFull280Exception, InvalidArgument280Exception {
+		this.insertAllFirst((I[]) elementsOf(list));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void insertAllLast(SimpleList280<? extends I> list) throws ContainerFull280Exception, InvalidArgument280Exception {
+		this.insertAllLast((I[]) elementsOf(list));
+	}
+
+	/**
+	 * A sorted list is always in natural order, so it can only be sorted in that order,
+	 * which leaves it unchanged apart from moving the cursor to before().
+	 * @param c Must be null.
+	 * @throws InvalidState280Exception if c is not null.
+	 */
+	@Override
+	public void sort(java.util.Comparator<? super I> c) throws InvalidState280Exception {
+		if( c != null ) throw new InvalidState280Exception("A sorted list cannot be reordered by another comparator.");
+		this.goBefore();
+	}
+
+	/**
+	 * Same as sort(c).
+	 * @throws InvalidState280Exception if c is not null.
+	 */
+	@Override
+	public void parallelSort(java.util.Comparator<? super I> c) throws InvalidState280Exception {
+		this.sort(c);
+	}
+
+	/**
+	 * Move the cursor to the first occurrence of x, or to after() if there is none.
+	 * If searches are resumed, move to the first occurrence after the cursor instead,
+	 * found by binary search over the elements after it.
+	 * @timing O(log n)
+	 */
+	@Override
+	public void search(I x) {
+		if( this.continueSearch && this.after() ) return;
+		if( this.continueSearch && this.itemExists() ) {
+			int k = this.lowerBound(x, this.mod(this.head - 1 - this.position, this.capacity) + 1);
+			if( k < this.numEl && this.membershipEquals(x, this.itemAt(k)) )
+				this.position = this.mod(this.head - 1 - k, this.capacity);
+			else this.goAfter();
+			return;
+		}
+
+		int slot = this.findSlot(x);
+		if( slot >= 0 ) this.position = slot;
+		else this.goAfter();
+	}
+
+	/**
+	 * Find the slot of the first item equal to y by binary search.
+	 * @timing O(log n)
+	 */
+	@Override
+	protected int findSlot(I y) {
+		int k = this.lowerBound(y);
+		if( k < this.numEl && this.membershipEquals(y, this.itemAt(k)) )
+			return this.mod(this.head - 1 - k, this.capacity);
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public SortedArrayedList280<I> clone() throws CloneNotSupportedException {
+		return (SortedArrayedList280<I>) super.clone();
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		SortedArrayedList280<Integer> L = new SortedArrayedList280<Integer>(8);
+
+		L.insert(5);
+		L.insert(1);
+		L.insert(9);
+		L.insert(3);
+		L.insert(7);
+		L.insert(3);
+		L.insertFirst(0);
+		L.insertLast(10);
+
+		System.out.println("List should be: 0, 1, 3, 3, 5, 7, 9, 10, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("has(7) should be true and has(4) should be false ....");
+		if( L.has(7) && !L.has(4) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		L.search(3);
+		L.resumeSearches();
+		L.search(3);
+		System.out.print("resumed search should find the second 3 ....");
+		if( L.itemExists() && L.item() == 3 && L.getItemAtIndex(3) == 3 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		L.search(3);
+		System.out.print("third search should be 'after' ....");
+		if( L.after() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		L.goFirst();
+		L.search(7);
+		System.out.print("resumed search from 0 should find 7 further on ....");
+		if( L.itemExists() && L.item() == 7 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+		L.search(5);
+		System.out.print("resumed search for 5, which is before the cursor, should be 'after' ....");
+		if( L.after() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		L.restartSearches();
+
+		System.out.println("Inserting out of order at the front.");
+		try {
+			L.deleteLast();
+			L.insertFirst(4);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.search(9);
+		L.delete(1);
+		L.delete(5);
+		L.insert(8);
+		L.insert(2);
+		System.out.println("List should be: 0, 2, 3, 3, 7, 8, 9, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("cursor should still be at 9 ....");
+		if( L.item() == 9 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		SortedArrayedList280<Integer> G = new SortedArrayedList280<Integer>(1, true);
+		for(int i = 0; i < 50; i++) G.insert((i * 37) % 50);
+		boolean sorted = true;
+		for(int i = 0; i < 50; i++) if( G.getItemAtIndex(i) != i ) sorted = false;
+		System.out.print("Growable sorted list should hold 0..49 in order ....");
+		if( sorted ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		G.drainFirst(new Integer[45], 45);
+		G.insertAllFirst(new Integer[] {-2, -1, 0});
+		G.insertAllLast(new Integer[] {50, 50, 51});
+		System.out.println("List should be: -2, -1, 0, 45, 46, 47, 48, 49, 50, 50, 51, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(G);
+
+		System.out.println("Bulk inserting out of order at the end.");
+		try {
+			G.insertAllLast(new Integer[] {52, 3});
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+	}
+}
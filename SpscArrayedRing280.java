@@ -0,0 +1,384 @@
+/* SpscArrayedRing280.java
+ * ---------------------------------------------
+ * Copyright (c) 2010 University of Saskatchewan
+ * All Rights Reserved
+ * --------------------------------------------- */
+
+package lib280.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import lib280.exception.ContainerEmpty280Exception;
+import lib280.exception.ContainerFull280Exception;
+import lib280.exception.InvalidArgument280Exception;
+
+/**
+ * Padding that keeps the cold fields off the cache line of whatever object
+ * precedes the ring in memory.
+ *
+ * HotSpot lays out a superclass's fields before its subclass's fields, but within
+ * one class it puts the longs first.  So each block of padding is a class of its
+ * own in the chain from here to SpscArrayedRing280, which places it between the
+ * fields it separates.
+ */
+abstract class SpscArrayedRingLeadPad280 {
+	long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * Fields shared by both threads that never change after construction.
+ */
+abstract class SpscArrayedRingColdFields280<I> extends SpscArrayedRingLeadPad280 {
+
+	/**
+	 * Array where the elements are stored.  Its length is a power of two.
+	 */
+	protected final I[] listElements;
+
+	/**
+	 * listElements.length - 1, for computing slots without division.
+	 */
+	protected final int mask;
+
+	/**
+	 * Maximum number of elements in the ring.
+	 */
+	protected final int capacity;
+
+	/**
+	 * Largest capacity, the largest power of two that is a legal array length.
+	 */
+	static final int MAX_CAPACITY = 1 << 30;
+
+	@SuppressWarnings("unchecked")
+	SpscArrayedRingColdFields280(int capacity) throws InvalidArgument280Exception {
+		if( capacity < 0 || capacity > MAX_CAPACITY )
+			throw new InvalidArgument280Exception("The capacity of a ring must be between 0 and " + MAX_CAPACITY + ".");
+		// Smallest power of two that is at least capacity.
+		int length = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.listElements = (I[]) new Object[length];
+		this.mask = length - 1;
+		this.capacity = capacity;
+	}
+}
+
+/**
+ * Padding between the cold fields and the consumer's fields.
+ */
+abstract class SpscArrayedRingColdPad280<I> extends SpscArrayedRingColdFields280<I> {
+
+	SpscArrayedRingColdPad280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+
+	long q00, q01, q02, q03, q04, q05, q06, q07, q08, q09, q10, q11, q12, q13, q14, q15;
+}
+
+/**
+ * Fields written only by the consumer.
+ */
+abstract class SpscArrayedRingHeadFields280<I> extends SpscArrayedRingColdPad280<I> {
+
+	/**
+	 * Number of elements ever removed.  Written by the consumer with release semantics.
+	 */
+	protected long head;
+
+	/**
+	 * The consumer's last reading of tail.
+	 */
+	protected long cachedTail;
+
+	SpscArrayedRingHeadFields280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+}
+
+/**
+ * Padding between the consumer's fields and the producer's fields.
+ */
+abstract class SpscArrayedRingHeadPad280<I> extends SpscArrayedRingHeadFields280<I> {
+
+	SpscArrayedRingHeadPad280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+
+	long r00, r01, r02, r03, r04, r05, r06, r07, r08, r09, r10, r11, r12, r13, r14, r15;
+}
+
+/**
+ * Fields written only by the producer.
+ */
+abstract class SpscArrayedRingTailFields280<I> extends SpscArrayedRingHeadPad280<I> {
+
+	/**
+	 * Number of elements ever inserted.  Written by the producer with release semantics.
+	 */
+	protected long tail;
+
+	/**
+	 * The producer's last reading of head.
+	 */
+	protected long cachedHead;
+
+	SpscArrayedRingTailFields280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+}
+
+/**
+ * Padding that keeps the producer's fields off the cache line of whatever object
+ * follows the ring in memory.
+ */
+abstract class SpscArrayedRingTailPad280<I> extends SpscArrayedRingTailFields280<I> {
+
+	SpscArrayedRingTailPad280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+
+	long s00, s01, s02, s03, s04, s05, s06, s07, s08, s09, s10, s11, s12, s13, s14, s15;
+}
+
+/**
+ * A bounded ring for handing items from exactly one producer thread to exactly
+ * one consumer thread without locks.  The producer calls offer() or insertLast();
+ * the consumer calls poll(), deleteFirst() or firstItem().  Since poll() returns
+ * null to mean the ring is empty, null items are not allowed.
+ *
+ * Like ArrayedList280, items enter at tail, moving toward lower slots, and leave
+ * from the slot just below head.  Here head and tail are running counts of the
+ * removals and insertions, so the ring is empty when they are equal and full when
+ * they differ by the capacity, and each is written by only one thread.  A count
+ * is published with a release store after the slot is written or cleared, and
+ * read by the other thread with an acquire load.  Each thread keeps a cached copy
+ * of the other thread's count and only reads the real one when the cached copy
+ * says the ring is full or empty.  The fields that never change, the consumer's
+ * fields and the producer's fields are each padded onto their own cache lines, so
+ * that a write by one thread does not invalidate a line the other thread reads.
+ *
+ * There is no cursor; count(), isEmpty() and isFull() may be called from either
+ * thread but are only a snapshot.
+ *
+ * @param <I> Type of the items in the ring.
+ */
+public class SpscArrayedRing280<I> extends SpscArrayedRingTailPad280<I> {
+
+	private static final VarHandle HEAD;
+	private static final VarHandle TAIL;
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			HEAD = lookup.findVarHandle(SpscArrayedRingHeadFields280.class, "head", long.class);
+			TAIL = lookup.findVarHandle(SpscArrayedRingTailFields280.class, "tail", long.class);
+		}
+		catch( ReflectiveOperationException e ) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * Create a new, empty ring.
+	 * @param capacity The maximum number of elements in the ring, at most 2^30.
+	 * @throws InvalidArgument280Exception if capacity is negative or greater than 2^30.
+	 */
+	public SpscArrayedRing280(int capacity) throws InvalidArgument280Exception {
+		super(capacity);
+	}
+
+	/**
+	 * Slot holding the element with running count seq, counting down from the top of the array.
+	 */
+	private int slotOf(long seq) {
+		return this.mask - ((int) seq & this.mask);
+	}
+
+	/**
+	 * Insert x at the end of the ring if there is room.  Producer thread only.
+	 * @param x item to be inserted
+	 * @return true if x was inserted, false if the ring was full.
+	 * @throws InvalidArgument280Exception if x is null.
+	 */
+	public boolean offer(I x) throws InvalidArgument280Exception {
+		if( x == null ) throw new InvalidArgument280Exception("Cannot insert null into a ring.");
+		long t = (long) TAIL.getOpaque(this);
+		if( t - this.cachedHead >= this.capacity ) {
+			this.cachedHead = (long) HEAD.getAcquire(this);
+			if( t - this.cachedHead >= this.capacity ) return false;
+		}
+		this.listElements[this.slotOf(t)] = x;
+		TAIL.setRelease(this, t + 1);
+		return true;
+	}
+
+	/**
+	 * Insert x at the end of the ring.  Producer thread only.
+	 * @param x item to be inserted
+	 * @precond !isFull() && x != null
+	 * @throws ContainerFull280Exception if the ring is full.
+	 * @throws InvalidArgument280Exception if x is null.
+	 */
+	public void insertLast(I x) throws ContainerFull280Exception, InvalidArgument280Exception {
+		if( !this.offer(x) ) throw new ContainerFull280Exception();
+	}
+
+	/**
+	 * Remove and return the first item in the ring.  Consumer thread only.
+	 * @return the first item, or null if the ring was empty.
+	 */
+	public I poll() {
+		long h = (long) HEAD.getOpaque(this);
+		if( h >= this.cachedTail ) {
+			this.cachedTail = (long) TAIL.getAcquire(this);
+			if( h >= this.cachedTail ) return null;
+		}
+		int slot = this.slotOf(h);
+		I x = this.listElements[slot];
+		this.listElements[slot] = null;
+		HEAD.setRelease(this, h + 1);
+		return x;
+	}
+
+	/**
+	 * Delete the first item in the ring.  Consumer thread only.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the ring is empty.
+	 */
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		long h = (long) HEAD.getOpaque(this);
+		if( h >= this.cachedTail ) {
+			this.cachedTail = (long) TAIL.getAcquire(this);
+			if( h >= this.cachedTail ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty ring.");
+		}
+		this.listElements[this.slotOf(h)] = null;
+		HEAD.setRelease(this, h + 1);
+	}
+
+	/**
+	 * The first item in the ring, without removing it.  Consumer thread only.
+	 * @precond !isEmpty()
+	 * @throws ContainerEmpty280Exception if the ring is empty.
+	 */
+	public I firstItem() throws ContainerEmpty280Exception {
+		long h = (long) HEAD.getOpaque(this);
+		if( h >= this.cachedTail ) {
+			this.cachedTail = (long) TAIL.getAcquire(this);
+			if( h >= this.cachedTail ) throw new ContainerEmpty280Exception("Cannot get the first item of an empty ring.");
+		}
+		return this.listElements[this.slotOf(h)];
+	}
+
+	/**
+	 * Number of elements in the ring.  Exact only when called by the producer
+	 * or consumer while the other thread is idle.
+	 */
+	public int count() {
+		long h = (long) HEAD.getAcquire(this);
+		long t = (long) TAIL.getAcquire(this);
+		return (int) Math.max(0, Math.min(this.capacity, t - h));
+	}
+
+	public boolean isEmpty() {
+		return this.count() == 0;
+	}
+
+	public boolean isFull() {
+		return this.count() == this.capacity;
+	}
+
+	/**
+	 * Maximum number of elements in the ring.
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		SpscArrayedRing280<Integer> R = new SpscArrayedRing280<Integer>(3);
+
+		System.out.print("New ring should be empty ....");
+		if( R.isEmpty() && R.poll() == null ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		R.insertLast(1);
+		R.insertLast(2);
+		R.insertLast(3);
+		System.out.print("offer() on a full ring should fail ....");
+		if( R.isFull() && !R.offer(4) ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		System.out.println("Inserting into a full ring.");
+		try {
+			R.insertLast(4);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerFull280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		R.deleteFirst();
+		R.insertLast(4);
+		System.out.print("items should come out as 2, 3, 4 ....");
+		if( R.firstItem() == 2 && R.poll() == 2 && R.poll() == 3 && R.poll() == 4 && R.isEmpty() ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+
+		System.out.println("Deleting from an empty ring.");
+		try {
+			R.deleteFirst();
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		System.out.println("Inserting null into a ring.");
+		try {
+			R.offer(null);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		System.out.println("Creating a ring with capacity above 2^30.");
+		try {
+			new SpscArrayedRing280<Integer>(MAX_CAPACITY + 1);
+			System.out.println("ERROR: exception should have been thrown, but wasn't.");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		System.out.print("a ring of capacity 5 should use an array of length 8 ....");
+		if( new SpscArrayedRing280<Integer>(5).mask == 7 && new SpscArrayedRing280<Integer>(8).mask == 7 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// One producer thread and one consumer thread.
+		final int N = 100000;
+		final SpscArrayedRing280<Integer> Q = new SpscArrayedRing280<Integer>(100);
+		Thread producer = new Thread(() -> {
+			for(int i = 0; i < N; i++)
+				while( !Q.offer(i) ) Thread.yield();
+		});
+		producer.start();
+		boolean inOrder = true;
+		for(int i = 0; i < N; i++) {
+			Integer x;
+			while( (x = Q.poll()) == null ) Thread.yield();
+			if( x != i ) inOrder = false;
+		}
+		try {
+			producer.join();
+		}
+		catch( InterruptedException e ) {
+			inOrder = false;
+		}
+		System.out.print("consumer should receive " + N + " items in order ....");
+		if( inOrder && Q.isEmpty() ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+	}
+}
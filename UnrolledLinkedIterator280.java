@@ -0,0 +1,125 @@
+package lib280.list;
+
+import lib280.base.LinearIterator280;
+import lib280.exception.AfterTheEnd280Exception;
+import lib280.exception.ContainerEmpty280Exception;
+import lib280.exception.NoCurrentItem280Exception;
+
+/**
+ * An iterator over an UnrolledLinkedList280.  Its position is a node and a slot
+ * within that node, so it walks each node's array before following a link.
+ */
+public class UnrolledLinkedIterator280<I> implements LinearIterator280<I> {
+
+	/**
+	 * The list being iterated over.
+	 */
+	protected UnrolledLinkedList280<I> list;
+
+	/**
+	 * The node with the current item, or null if there is no current item.
+	 */
+	protected UnrolledNode280<I> cur;
+
+	/**
+	 * Slot of the current item in cur.
+	 */
+	protected int offset;
+
+	/**
+	 * Whether the iterator is after the end when cur is null.
+	 */
+	protected boolean pastEnd;
+
+	/**
+	 * Create a new iterator at the first item of list, or after() if it is empty.
+	 * @param list The list to iterate over.
+	 */
+	public UnrolledLinkedIterator280(UnrolledLinkedList280<I> list) {
+		this(list, list.head, 0, list.head == null);
+	}
+
+	/**
+	 * Create a new iterator at a specific position in list.
+	 * @param list The list to iterate over.
+	 * @param cur The node with the current item, or null.
+	 * @param offset Slot of the current item in cur.
+	 * @param pastEnd Whether the iterator is after the end when cur is null.
+	 */
+	public UnrolledLinkedIterator280(UnrolledLinkedList280<I> list, UnrolledNode280<I> cur, int offset, boolean pastEnd) {
+		this.list = list;
+		this.cur = cur;
+		this.offset = offset;
+		this.pastEnd = pastEnd;
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("A current item must exist.");
+		return this.cur.item(this.offset);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.cur != null;
+	}
+
+	@Override
+	public boolean before() {
+		return this.cur == null && (!this.pastEnd || this.list.isEmpty());
+	}
+
+	@Override
+	public boolean after() {
+		return this.cur == null && (this.pastEnd || this.list.isEmpty());
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( this.list.isEmpty() ) throw new ContainerEmpty280Exception("Cannot move to first element of an empty list.");
+		this.cur = this.list.head;
+		this.offset = 0;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception("Cannot advance to next item when already after.");
+		if( this.before() ) {
+			this.goFirst();
+			return;
+		}
+		if( ++this.offset == this.cur.size ) {
+			this.cur = this.cur.nextNode;
+			this.offset = 0;
+			this.pastEnd = this.cur == null;
+		}
+	}
+
+	@Override
+	public void goBefore() {
+		this.cur = null;
+		this.pastEnd = false;
+	}
+
+	@Override
+	public void goAfter() {
+		this.cur = null;
+		this.pastEnd = true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean equals(Object other) {
+		if( other instanceof UnrolledLinkedIterator280 ) {
+			UnrolledLinkedIterator280<I> otherIter = (UnrolledLinkedIterator280<I>) other;
+			return otherIter.list == this.list && otherIter.cur == this.cur
+					&& (this.cur == null ? otherIter.pastEnd == this.pastEnd : otherIter.offset == this.offset);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this.cur) * 31 + (this.cur == null ? (this.pastEnd ? 1 : 0) : this.offset);
+	}
+}
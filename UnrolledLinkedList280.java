@@ -0,0 +1,798 @@
+package lib280.list;
+
+import lib280.base.CursorPosition280;
+import lib280.exception.*;
+
+/**
+ * A linked list whose nodes each hold a small array of consecutive items rather
+ * than a single item.  Walking the list reads each array in turn, so searches and
+ * other scans follow one link per node instead of one per item, and the items of
+ * a node share a few cache lines instead of each having a node object of its own.
+ *
+ * The cursor behaves as in LinkedList280: it is on an item, before() or after(),
+ * insertBefore() inserts in front of the cursor and leaves the cursor on the same
+ * item, and deleteItem() moves the cursor to the next item.  Both take time
+ * proportional to the node capacity, not to the length of the list: a full node
+ * is split in half to make room, and a node that falls below half full borrows
+ * items from the next node or is merged with it.  Every node other than the first
+ * and last is therefore at least half full.
+ *
+ * A position saved with currentPosition() refers to a node and a slot in it, so
+ * it is only valid until the list is next modified.
+ */
+public class UnrolledLinkedList280<I> implements SimpleList280<I> {
+
+	/**
+	 * Number of items per node when none is given.  Sixteen references fill one
+	 * or two cache lines.
+	 */
+	public static final int DEFAULT_NODE_CAPACITY = 16;
+
+	/**
+	 * First node in the list, or null if the list is empty.
+	 */
+	protected UnrolledNode280<I> head;
+
+	/**
+	 * Last node in the list, or null if the list is empty.
+	 */
+	protected UnrolledNode280<I> tail;
+
+	/**
+	 * Maximum number of items in a node.
+	 */
+	protected int nodeCapacity;
+
+	/**
+	 * Number of elements in the list.
+	 */
+	protected int numEl;
+
+	/**
+	 * Number of nodes in the list.
+	 */
+	protected int numNodes;
+
+	/**
+	 * The node with the item at the cursor, or null if the cursor is before() or after().
+	 */
+	protected UnrolledNode280<I> position;
+
+	/**
+	 * Slot of the item at the cursor in position.
+	 */
+	protected int positionOffset;
+
+	/**
+	 * Whether the cursor is after() rather than before() when position is null.
+	 */
+	protected boolean pastEnd;
+
+	/**
+	 * Do searches continue or start anew?
+	 */
+	protected boolean continueSearch;
+
+
+	/**
+	 * Create a new, empty list with nodes of DEFAULT_NODE_CAPACITY items.
+	 */
+	public UnrolledLinkedList280() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/**
+	 * Create a new, empty list.
+	 * @param nodeCapacity Maximum number of items in a node.
+	 * @throws InvalidArgument280Exception if nodeCapacity is less than 2.
+	 */
+	public UnrolledLinkedList280(int nodeCapacity) throws InvalidArgument280Exception {
+		if( nodeCapacity < 2 ) throw new InvalidArgument280Exception("Node capacity must be at least 2.");
+		this.nodeCapacity = nodeCapacity;
+	}
+
+	/**
+	 * Maximum number of items in a node.
+	 */
+	public int nodeCapacity() {
+		return this.nodeCapacity;
+	}
+
+	/**
+	 * Number of nodes currently in the list.
+	 */
+	public int nodeCount() {
+		return this.numNodes;
+	}
+
+	/**
+	 * Link node into the list after pred, or at the front if pred is null.
+	 */
+	protected void linkAfter(UnrolledNode280<I> pred, UnrolledNode280<I> node) {
+		UnrolledNode280<I> succ = pred == null ? this.head : pred.nextNode;
+		node.previousNode = pred;
+		node.nextNode = succ;
+		if( pred == null ) this.head = node;
+		else pred.nextNode = node;
+		if( succ == null ) this.tail = node;
+		else succ.previousNode = node;
+		this.numNodes++;
+	}
+
+	/**
+	 * Unlink node from the list.
+	 */
+	protected void unlink(UnrolledNode280<I> node) {
+		if( node.previousNode == null ) this.head = node.nextNode;
+		else node.previousNode.nextNode = node.nextNode;
+		if( node.nextNode == null ) this.tail = node.previousNode;
+		else node.nextNode.previousNode = node.previousNode;
+		node.nextNode = null;
+		node.previousNode = null;
+		this.numNodes--;
+	}
+
+	/**
+	 * Add a new node holding only x after pred, or at the front if pred is null.
+	 * If the list was empty, the cursor ends up before().
+	 */
+	protected void linkNewNode(UnrolledNode280<I> pred, I x) {
+		if( this.isEmpty() ) this.pastEnd = false;
+		UnrolledNode280<I> node = new UnrolledNode280<I>(this.nodeCapacity);
+		node.insertAt(0, x);
+		this.linkAfter(pred, node);
+		this.numEl++;
+	}
+
+	/**
+	 * Split a full node in half, moving its upper half to a new node after it.
+	 * The cursor follows its item.
+	 * @timing O(nodeCapacity)
+	 */
+	protected void split(UnrolledNode280<I> node) {
+		int half = node.size / 2;
+		UnrolledNode280<I> upper = new UnrolledNode280<I>(this.nodeCapacity);
+		node.moveTail(half, upper);
+		this.linkAfter(node, upper);
+		if( this.position == node && this.positionOffset >= half ) {
+			this.position = upper;
+			this.positionOffset -= half;
+		}
+	}
+
+	/**
+	 * Remove the item in slot off of node.  If the node falls below half full, it
+	 * takes items from the next node, or all of them if they fit, in which case the
+	 * next node is unlinked.  A node left empty is unlinked.  A cursor on the
+	 * removed item moves to the item after it, or to after() if there is none; any
+	 * other cursor stays on its item.
+	 * @timing O(nodeCapacity)
+	 */
+	protected void removeAt(UnrolledNode280<I> node, int off) {
+		node.removeAt(off, 1);
+		this.numEl--;
+		if( this.position == node && this.positionOffset > off ) this.positionOffset--;
+
+		UnrolledNode280<I> next = node.nextNode;
+		int minSize = this.nodeCapacity / 2;
+		if( next != null && node.size < minSize ) {
+			int take = node.size + next.size <= this.nodeCapacity ? next.size : minSize - node.size;
+			if( this.position == next ) {
+				if( this.positionOffset < take ) {
+					this.position = node;
+					this.positionOffset += node.size;
+				}
+				else this.positionOffset -= take;
+			}
+			node.takeFront(take, next);
+			if( next.size == 0 ) this.unlink(next);
+		}
+
+		if( this.position == node && this.positionOffset == node.size ) {
+			this.position = node.nextNode;
+			this.positionOffset = 0;
+			this.pastEnd = this.position == null;
+		}
+		if( node.size == 0 ) this.unlink(node);
+		if( this.numEl == 0 ) this.pastEnd = false;
+	}
+
+	@Override
+	public void insertFirst(I x) throws ContainerFull280Exception {
+		if( this.head == null || this.head.isFull() ) {
+			this.linkNewNode(null, x);
+			return;
+		}
+		this.head.insertAt(0, x);
+		if( this.position == this.head ) this.positionOffset++;
+		this.numEl++;
+	}
+
+	@Override
+	public void insertLast(I x) throws ContainerFull280Exception {
+		if( this.tail == null || this.tail.isFull() ) {
+			this.linkNewNode(this.tail, x);
+			return;
+		}
+		this.tail.insertAt(this.tail.size, x);
+		this.numEl++;
+	}
+
+	@Override
+	public void insert(I x) throws ContainerFull280Exception {
+		this.insertFirst(x);
+	}
+
+	/**
+	 * Insert an element before the current cursor position.  The cursor stays on
+	 * the same item.  If the cursor's node is full, it is split in half first.
+	 * @param x - Element to be inserted.
+	 * @precond !before()
+	 * @throws InvalidState280Exception if the cursor is before().
+	 * @timing O(nodeCapacity)
+	 */
+	public void insertBefore(I x) throws InvalidState280Exception {
+		if( this.before() ) throw new InvalidState280Exception("Cannot insertBefore() when the cursor is already before the first element.");
+		if( this.after() ) {
+			this.insertLast(x);
+			return;
+		}
+
+		// At the start of a node, x can go at the end of the previous node if it has room.
+		UnrolledNode280<I> prev = this.position.previousNode;
+		if( this.positionOffset == 0 && prev != null && !prev.isFull() ) {
+			prev.insertAt(prev.size, x);
+			this.numEl++;
+			return;
+		}
+
+		if( this.position.isFull() ) this.split(this.position);
+		this.position.insertAt(this.positionOffset, x);
+		this.positionOffset++;
+		this.numEl++;
+	}
+
+	@Override
+	public I firstItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot obtain beginning of an empty list.");
+		return this.head.item(0);
+	}
+
+	@Override
+	public I lastItem() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot obtain item at the end of an empty list.");
+		return this.tail.item(this.tail.size - 1);
+	}
+
+	/**
+	 * Obtain the item at position idx in the list. The first element is at index 0.
+	 * Walks node by node from whichever end is closer.
+	 * @param idx - index (position) of the desired list element
+	 * @return the element at index idx in the list.
+	 * @throws InvalidArgument280Exception if there is no item at the specified index.
+	 * @timing O(n / nodeCapacity)
+	 */
+	public I getItemAtIndex(int idx) throws InvalidArgument280Exception {
+		if( idx < 0 || idx >= this.numEl )
+			throw new InvalidArgument280Exception("There is no element at position " + idx + " in the list.");
+		if( idx < this.numEl / 2 ) {
+			UnrolledNode280<I> node = this.head;
+			while( idx >= node.size ) {
+				idx -= node.size;
+				node = node.nextNode;
+			}
+			return node.item(idx);
+		}
+		UnrolledNode280<I> node = this.tail;
+		int fromEnd = this.numEl - 1 - idx;
+		while( fromEnd >= node.size ) {
+			fromEnd -= node.size;
+			node = node.previousNode;
+		}
+		return node.item(node.size - 1 - fromEnd);
+	}
+
+	/**
+	 * Delete the first item.  If the cursor was on it, it moves to the new first item.
+	 * @timing O(nodeCapacity)
+	 */
+	@Override
+	public void deleteFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+		this.removeAt(this.head, 0);
+	}
+
+	/**
+	 * Delete the last item.  If the cursor was on it, it moves to the new last item.
+	 * @timing O(1)
+	 */
+	@Override
+	public void deleteLast() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete an item from an empty list.");
+		boolean onLast = this.position == this.tail && this.positionOffset == this.tail.size - 1;
+		this.removeAt(this.tail, this.tail.size - 1);
+		if( onLast && !this.isEmpty() ) {
+			this.position = this.tail;
+			this.positionOffset = this.tail.size - 1;
+		}
+	}
+
+	/**
+	 * Delete the first n items, dropping whole nodes at a time.  If the cursor was
+	 * on a deleted item, it moves to the new first item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n / nodeCapacity + nodeCapacity)
+	 */
+	@Override
+	public void deleteFirst(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+
+		boolean cursorInside = false;
+		while( n > 0 && n >= this.head.size ) {
+			if( this.position == this.head ) cursorInside = true;
+			n -= this.head.size;
+			this.numEl -= this.head.size;
+			this.unlink(this.head);
+		}
+		if( n > 0 ) {
+			if( this.position == this.head ) {
+				if( this.positionOffset < n ) cursorInside = true;
+				else this.positionOffset -= n;
+			}
+			this.head.removeAt(0, n);
+			this.numEl -= n;
+		}
+
+		if( this.isEmpty() ) this.goBefore();
+		else if( cursorInside ) {
+			this.position = this.head;
+			this.positionOffset = 0;
+		}
+	}
+
+	/**
+	 * Delete the last n items, dropping whole nodes at a time.  If the cursor was
+	 * on a deleted item, it moves to the new last item.
+	 * @param n Number of items to delete.
+	 * @throws ContainerEmpty280Exception if the list has fewer than n items.
+	 * @timing O(n / nodeCapacity + nodeCapacity)
+	 */
+	@Override
+	public void deleteLast(int n) throws ContainerEmpty280Exception {
+		if( n < 0 ) throw new InvalidArgument280Exception("Cannot delete " + n + " items.");
+		if( n > this.numEl ) throw new ContainerEmpty280Exception("Cannot delete " + n + " items from a list of " + this.numEl + ".");
+
+		boolean cursorInside = false;
+		while( n > 0 && n >= this.tail.size ) {
+			if( this.position == this.tail ) cursorInside = true;
+			n -= this.tail.size;
+			this.numEl -= this.tail.size;
+			this.unlink(this.tail);
+		}
+		if( n > 0 ) {
+			if( this.position == this.tail && this.positionOffset >= this.tail.size - n ) cursorInside = true;
+			this.tail.removeAt(this.tail.size - n, n);
+			this.numEl -= n;
+		}
+
+		if( this.isEmpty() ) this.goBefore();
+		else if( cursorInside ) {
+			this.position = this.tail;
+			this.positionOffset = this.tail.size - 1;
+		}
+	}
+
+	@Override
+	public void deleteItem() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no item at the cursor to delete.");
+		this.removeAt(this.position, this.positionOffset);
+	}
+
+	/**
+	 * Delete the first occurrence of x from the list.  The cursor stays on the item
+	 * it was on, or moves to the next item if that item was deleted.
+	 */
+	@Override
+	public void delete(I x) throws ItemNotFound280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot delete from an empty list.");
+		for(UnrolledNode280<I> node = this.head; node != null; node = node.nextNode)
+			for(int i = 0; i < node.size; i++)
+				if( this.membershipEquals(x, node.item(i)) ) {
+					this.removeAt(node, i);
+					return;
+				}
+		throw new ItemNotFound280Exception("Item to be deleted wasn't in the list.");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean membershipEquals(I x, I y) {
+		if ((x instanceof Comparable) && (y instanceof Comparable))
+			return  0==((Comparable<I>)x).compareTo(y);
+		else return x.equals(y);
+	}
+
+	@Override
+	public boolean has(I y) {
+		for(UnrolledNode280<I> node = this.head; node != null; node = node.nextNode)
+			for(int i = 0; i < node.size; i++)
+				if( this.membershipEquals(y, node.item(i)) ) return true;
+		return false;
+	}
+
+	@Override
+	public I obtain(I y) throws ItemNotFound280Exception {
+		for(UnrolledNode280<I> node = this.head; node != null; node = node.nextNode)
+			for(int i = 0; i < node.size; i++)
+				if( this.membershipEquals(y, node.item(i)) ) return node.item(i);
+		throw new ItemNotFound280Exception("Can't obtain and item that is not in the list.");
+	}
+
+	@Override
+	public I item() throws NoCurrentItem280Exception {
+		if( !this.itemExists() ) throw new NoCurrentItem280Exception("There is no current item to obtain.");
+		return this.position.item(this.positionOffset);
+	}
+
+	@Override
+	public boolean itemExists() {
+		return this.position != null;
+	}
+
+	@Override
+	public boolean before() {
+		return this.position == null && (!this.pastEnd || this.isEmpty());
+	}
+
+	@Override
+	public boolean after() {
+		return this.position == null && (this.pastEnd || this.isEmpty());
+	}
+
+	@Override
+	public void goFirst() throws ContainerEmpty280Exception {
+		if( this.isEmpty() ) throw new ContainerEmpty280Exception("Cannot position cursor at first element of an empty list.");
+		this.position = this.head;
+		this.positionOffset = 0;
+	}
+
+	@Override
+	public void goForth() throws AfterTheEnd280Exception {
+		if( this.after() ) throw new AfterTheEnd280Exception("Cannot advance to next item when already after the end.");
+		if( this.before() ) {
+			this.goFirst();
+			return;
+		}
+		if( ++this.positionOffset == this.position.size ) {
+			this.position = this.position.nextNode;
+			this.positionOffset = 0;
+			this.pastEnd = this.position == null;
+		}
+	}
+
+	@Override
+	public void goBefore() {
+		this.position = null;
+		this.pastEnd = false;
+	}
+
+	@Override
+	public void goAfter() {
+		this.position = null;
+		this.pastEnd = true;
+	}
+
+	@Override
+	public void restartSearches() {
+		this.continueSearch = false;
+	}
+
+	@Override
+	public void resumeSearches() {
+		this.continueSearch = true;
+	}
+
+	/**
+	 * Move the cursor to the next item equal to x, scanning each node's array
+	 * directly, or to after() if there is none.
+	 */
+	@Override
+	public void search(I x) {
+		if( this.isEmpty() ) {
+			this.goAfter();
+			return;
+		}
+
+		UnrolledNode280<I> node = this.head;
+		int i = 0;
+		if( this.continueSearch ) {
+			if( this.after() ) return;
+			if( this.itemExists() ) {
+				node = this.position;
+				i = this.positionOffset + 1;
+			}
+		}
+
+		for(; node != null; node = node.nextNode, i = 0)
+			for(; i < node.size; i++)
+				if( this.membershipEquals(x, node.item(i)) ) {
+					this.position = node;
+					this.positionOffset = i;
+					return;
+				}
+		this.goAfter();
+	}
+
+	@Override
+	public CursorPosition280 currentPosition() {
+		return new UnrolledLinkedIterator280<I>(this, this.position, this.positionOffset, this.pastEnd);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void goPosition(CursorPosition280 c) {
+		if( !(c instanceof UnrolledLinkedIterator280) )
+			throw new IllegalArgumentException("Argument is not an UnrolledLinkedIterator280.");
+		UnrolledLinkedIterator280<I> iter = (UnrolledLinkedIterator280<I>) c;
+		if( iter.list != this || (iter.cur != null && iter.offset >= iter.cur.size) )
+			throw new IllegalArgumentException("Iterator position is not in this list.");
+		this.position = iter.cur;
+		this.positionOffset = iter.offset;
+		this.pastEnd = iter.pastEnd;
+	}
+
+	/**
+	 * Iterator for list initialized to first item.
+	 * @timing O(1)
+	 */
+	public UnrolledLinkedIterator280<I> iterator() {
+		return new UnrolledLinkedIterator280<I>(this);
+	}
+
+	@Override
+	public void clear() {
+		this.head = null;
+		this.tail = null;
+		this.numEl = 0;
+		this.numNodes = 0;
+		this.goBefore();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.numEl == 0;
+	}
+
+	/**
+	 * An unrolled list is never full.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	/**
+	 * Obtain the number of elements in the list.
+	 * @return The number of elements in the list.
+	 * @timing O(1)
+	 */
+	public int count() {
+		return this.numEl;
+	}
+
+	/**
+	 * A clone of this list with its own nodes, and its cursor on the same item.
+	 * The items themselves are shared.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public UnrolledLinkedList280<I> clone() throws CloneNotSupportedException {
+		UnrolledLinkedList280<I> result = (UnrolledLinkedList280<I>) super.clone();
+		result.head = null;
+		result.tail = null;
+		result.numNodes = 0;
+		result.position = null;
+		for(UnrolledNode280<I> node = this.head; node != null; node = node.nextNode) {
+			UnrolledNode280<I> copy = new UnrolledNode280<I>(this.nodeCapacity);
+			System.arraycopy(node.items, 0, copy.items, 0, node.size);
+			copy.size = node.size;
+			result.linkAfter(result.tail, copy);
+			if( node == this.position ) result.position = copy;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		if( this.isEmpty() ) return "<Empty>";
+
+		StringBuilder result = new StringBuilder();
+		for(UnrolledNode280<I> node = this.head; node != null; node = node.nextNode)
+			for(int i = 0; i < node.size; i++)
+				result.append(node.item(i)).append(", ");
+		return result.toString();
+	}
+
+
+	/**
+	 * Regression test.
+	 */
+	public static void main(String[] args) {
+		UnrolledLinkedList280<Integer> L = new UnrolledLinkedList280<Integer>(4);
+
+		System.out.print("A new list should be both before() and after() ....");
+		if( L.before() && L.after() ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		for(int i = 5; i <= 14; i++) L.insertLast(i);
+		for(int i = 4; i >= 1; i--) L.insertFirst(i);
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+
+		System.out.print("14 items should fill 4 nodes of 4 ....");
+		if( L.count() == 14 && L.nodeCount() == 4 ) System.out.println("and they do.  OK!");
+		else System.out.println("and they do not.  ERROR!");
+
+		System.out.print("getItemAtIndex(2) should be 3 and getItemAtIndex(11) should be 12 ....");
+		if( L.getItemAtIndex(2) == 3 && L.getItemAtIndex(11) == 12 ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		// Walking the whole list with the cursor.
+		L.goBefore();
+		int expected = 1;
+		boolean inOrder = true;
+		while( !L.after() ) {
+			L.goForth();
+			if( L.itemExists() && L.item() != expected++ ) inOrder = false;
+		}
+		System.out.print("goForth() from before() should visit 1 to 14 in order ....");
+		if( inOrder && expected == 15 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// Inserting into a full node splits it, and the cursor stays on its item.
+		L.search(7);
+		L.insertBefore(100);
+		L.insertBefore(101);
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 100, 101, 7, 8, 9, 10, 11, 12, 13, 14, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should still be at 7 ....");
+		if( L.item() == 7 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		System.out.print("the full node should have been split ....");
+		if( L.nodeCount() == 5 ) System.out.println("and it was.  OK!");
+		else System.out.println("and it was not.  ERROR!");
+
+		L.goAfter();
+		L.insertBefore(15);
+		System.out.print("insertBefore() at after() should append and stay after() ....");
+		if( L.after() && L.lastItem() == 15 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// Deleting at the cursor moves it to the next item.
+		L.search(100);
+		L.deleteItem();
+		L.deleteItem();
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should be at 7 ....");
+		if( L.item() == 7 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.search(15);
+		L.deleteItem();
+		System.out.print("deleting the last item at the cursor should leave it after() ....");
+		if( L.after() ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		// Deleting from a node that falls below half full refills it from the next node.
+		L.search(9);
+		for(int i = 0; i < 5; i++) L.deleteItem();
+		System.out.println("List should be: 1, 2, 3, 4, 5, 6, 7, 8, 14, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should be at 14 ....");
+		if( L.item() == 14 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+		boolean halfFull = true;
+		for(UnrolledNode280<Integer> node = L.head; node != null; node = node.nextNode())
+			if( node != L.head && node != L.tail && node.size() < 2 ) halfFull = false;
+		System.out.print("every inner node should be at least half full ....");
+		if( halfFull ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		L.goFirst();
+		L.goForth();
+		L.delete(1);
+		L.delete(8);
+		System.out.println("List should be: 2, 3, 4, 5, 6, 7, 14, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should still be at 2 ....");
+		if( L.item() == 2 ) System.out.println("and it is.  OK!");
+		else System.out.println("and it is not.  ERROR!");
+
+		System.out.print("has(5) should be true and has(8) should be false ....");
+		if( L.has(5) && !L.has(8) ) System.out.println("and they are.  OK!");
+		else System.out.println("and they are not.  ERROR!");
+
+		try {
+			L.delete(8);
+			System.out.println("Deleted an item that is not in the list.  ERROR!");
+		}
+		catch( ItemNotFound280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.search(4);
+		CursorPosition280 p = L.currentPosition();
+		L.goAfter();
+		L.goPosition(p);
+		System.out.print("goPosition() should return the cursor to 4 ....");
+		if( L.item() == 4 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		L.deleteFirst(3);
+		L.deleteLast(2);
+		System.out.println("List should be: 5, 6, ");
+		System.out.print(  "     and it is: ");
+		System.out.println(L);
+		System.out.print("cursor should have moved to the new first item, 5 ....");
+		if( L.item() == 5 ) System.out.println("and it has.  OK!");
+		else System.out.println("and it has not.  ERROR!");
+
+		L.goForth();
+		L.deleteLast();
+		System.out.print("deleteLast() with the cursor on the last item should move it to 5 ....");
+		if( L.item() == 5 && L.count() == 1 ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		try {
+			L.deleteFirst(2);
+			System.out.println("Deleted more items than the list has.  ERROR!");
+		}
+		catch( ContainerEmpty280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		L.deleteFirst();
+		System.out.print("deleting the only item should leave an empty list with no nodes ....");
+		if( L.isEmpty() && L.nodeCount() == 0 && L.before() && L.after() ) System.out.println("and it does.  OK!");
+		else System.out.println("and it does not.  ERROR!");
+
+		try {
+			L.insertBefore(1);
+			System.out.println("Inserted before the cursor of an empty list.  ERROR!");
+		}
+		catch( InvalidState280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+
+		for(int i = 1; i <= 10; i++) L.insertLast(i);
+		L.search(6);
+		try {
+			UnrolledLinkedList280<Integer> C = L.clone();
+			C.deleteItem();
+			C.insertFirst(0);
+			System.out.print("a clone should have its own nodes and its cursor on 6 ....");
+			if( L.count() == 10 && L.item() == 6 && C.item() == 7 && C.count() == 10 && !C.has(6) )
+				System.out.println("and it does.  OK!");
+			else System.out.println("and it does not.  ERROR!");
+		}
+		catch( CloneNotSupportedException e ) {
+			System.out.println("Clone not supported.  ERROR!");
+		}
+
+		try {
+			new UnrolledLinkedList280<Integer>(1);
+			System.out.println("Created a list with one item per node.  ERROR!");
+		}
+		catch( InvalidArgument280Exception e ) {
+			System.out.println("Caught exception. OK!");
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package lib280.list;
+
+/**	A node of an UnrolledLinkedList280: a small array of consecutive items of
+	the list, with references to the next and previous nodes.  The items are in
+	slots 0 to size()-1 of the array; the remaining slots are null. */
+public class UnrolledNode280<I>
+{
+	/**	Items in the node, in slots 0 to size-1. */
+	protected Object[] items;
+
+	/**	Number of items in the node. */
+	protected int size;
+
+	/**	The next node. */
+	protected UnrolledNode280<I> nextNode;
+
+	/**	The previous node. */
+	protected UnrolledNode280<I> previousNode;
+
+	/**	Construct a new, empty node with room for capacity items. <br>
+		Analysis: Time = O(capacity)
+		@param capacity maximum number of items in the node */
+	public UnrolledNode280(int capacity)
+	{
+		items = new Object[capacity];
+	}
+
+	/**	Number of items in the node. <br>
+		Analysis: Time = O(1) */
+	public int size()
+	{
+		return size;
+	}
+
+	/**	Whether the node has no room for another item. <br>
+		Analysis: Time = O(1) */
+	public boolean isFull()
+	{
+		return size == items.length;
+	}
+
+	/**	The item in slot i of the node. <br>
+		Analysis: Time = O(1)
+		@param i slot of the item, from 0 to size()-1 */
+	@SuppressWarnings("unchecked")
+	public I item(int i)
+	{
+		return (I) items[i];
+	}
+
+	/**	The next node. <br>
+		Analysis: Time = O(1) */
+	public UnrolledNode280<I> nextNode()
+	{
+		return nextNode;
+	}
+
+	/**	The previous node. <br>
+		Analysis: Time = O(1) */
+	public UnrolledNode280<I> previousNode()
+	{
+		return previousNode;
+	}
+
+	/**	Insert x into slot i, moving the items from slot i on up one slot. <br>
+		Analysis: Time = O(capacity)
+		@precond !isFull() and 0 <= i <= size() */
+	protected void insertAt(int i, I x)
+	{
+		System.arraycopy(items, i, items, i + 1, size - i);
+		items[i] = x;
+		size++;
+	}
+
+	/**	Remove the n items from slot i on, moving the items after them down. <br>
+		Analysis: Time = O(capacity)
+		@precond 0 <= i and i + n <= size() */
+	protected void removeAt(int i, int n)
+	{
+		System.arraycopy(items, i + n, items, i, size - i - n);
+		for (int k = size - n; k < size; k++)
+			items[k] = null;
+		size -= n;
+	}
+
+	/**	Move the items from slot i on to the end of node other. <br>
+		Analysis: Time = O(capacity)
+		@precond other has room for size() - i more items */
+	protected void moveTail(int i, UnrolledNode280<I> other)
+	{
+		System.arraycopy(items, i, other.items, other.size, size - i);
+		other.size += size - i;
+		for (int k = i; k < size; k++)
+			items[k] = null;
+		size = i;
+	}
+
+	/**	Move the first n items of node other to the end of this node. <br>
+		Analysis: Time = O(capacity)
+		@precond this node has room for n more items and n <= other.size() */
+	protected void takeFront(int n, UnrolledNode280<I> other)
+	{
+		System.arraycopy(other.items, 0, items, size, n);
+		size += n;
+		other.removeAt(0, n);
+	}
+
+	/**	String representation of the items in this node. <br>
+		Analysis: Time = O(size()) */
+	public String toString()
+	{
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < size; i++)
+			result.append(i == 0 ? "" : " ").append(items[i]);
+		return result.toString();
+	}
+}
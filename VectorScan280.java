@@ -0,0 +1,97 @@
+package lib280.list;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The ArrayScan280 scans written with the incubating Vector API.  Each run is
+ * compared a whole vector at a time, and the slots left over at the bottom of
+ * a search, or the top of a count, are compared one by one.
+ *
+ * Compiling this class needs --add-modules jdk.incubator.vector.  Only
+ * ArrayScan280 calls it, and only when that module is present at run time.
+ */
+final class VectorScan280 {
+
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	private VectorScan280() {
+	}
+
+	static int lastIndexOf(int[] a, int lo, int hi, int y) {
+		int s = hi;
+		for(int step = INTS.length(); s - lo >= step; ) {
+			s -= step;
+			VectorMask<Integer> m = IntVector.fromArray(INTS, a, s).eq(y);
+			if( m.anyTrue() ) return s + m.lastTrue();
+		}
+		while( --s >= lo )
+			if( a[s] == y ) return s;
+		return -1;
+	}
+
+	static int count(int[] a, int lo, int hi, int y) {
+		int c = 0;
+		int s = lo;
+		for(int bound = lo + INTS.loopBound(hi - lo); s < bound; s += INTS.length())
+			c += IntVector.fromArray(INTS, a, s).eq(y).trueCount();
+		for(; s < hi; s++)
+			c += a[s] == y ? 1 : 0;
+		return c;
+	}
+
+	static int lastIndexOf(long[] a, int lo, int hi, long y) {
+		int s = hi;
+		for(int step = LONGS.length(); s - lo >= step; ) {
+			s -= step;
+			VectorMask<Long> m = LongVector.fromArray(LONGS, a, s).eq(y);
+			if( m.anyTrue() ) return s + m.lastTrue();
+		}
+		while( --s >= lo )
+			if( a[s] == y ) return s;
+		return -1;
+	}
+
+	static int count(long[] a, int lo, int hi, long y) {
+		int c = 0;
+		int s = lo;
+		for(int bound = lo + LONGS.loopBound(hi - lo); s < bound; s += LONGS.length())
+			c += LongVector.fromArray(LONGS, a, s).eq(y).trueCount();
+		for(; s < hi; s++)
+			c += a[s] == y ? 1 : 0;
+		return c;
+	}
+
+	/**
+	 * Find the highest slot in [lo, hi) whose raw bits are bits.
+	 */
+	static int lastIndexOf(double[] a, int lo, int hi, long bits) {
+		int s = hi;
+		for(int step = DOUBLES.length(); s - lo >= step; ) {
+			s -= step;
+			VectorMask<Long> m = DoubleVector.fromArray(DOUBLES, a, s).reinterpretAsLongs().eq(bits);
+			if( m.anyTrue() ) return s + m.lastTrue();
+		}
+		while( --s >= lo )
+			if( Double.doubleToRawLongBits(a[s]) == bits ) return s;
+		return -1;
+	}
+
+	/**
+	 * Count the slots in [lo, hi) whose raw bits are bits.
+	 */
+	static int count(double[] a, int lo, int hi, long bits) {
+		int c = 0;
+		int s = lo;
+		for(int bound = lo + DOUBLES.loopBound(hi - lo); s < bound; s += DOUBLES.length())
+			c += DoubleVector.fromArray(DOUBLES, a, s).reinterpretAsLongs().eq(bits).trueCount();
+		for(; s < hi; s++)
+			c += Double.doubleToRawLongBits(a[s]) == bits ? 1 : 0;
+		return c;
+	}
+}